@@ -17,8 +17,11 @@
 # Provides a set of configurations for the CDC service.
 #
 # + tables - The name of the table or an array of table names to capture events from
+# + compact - Indicates whether the change events of the same row within a batch are compacted into a single event,
+# which carries the state of the row before its first change and after its last change
 public type CdcServiceConfig record {|
     string|string[] tables;
+    boolean compact = false;
 |};
 
 # The annotation to configure a CDC service.
@@ -63,3 +63,30 @@ public isolated function externImmediateStop(Listener cdcListener) returns Error
     name: "immediateStop",
     'class: "io.ballerina.lib.cdc.Listener"
 } external;
+
+# Attach point to call the native CDC listener snapshot method.
+#
+# Triggers an incremental snapshot of the given tables, which is taken in chunks while the changes of the tables are
+# streamed. Incremental snapshots are enabled and their chunk size is configured through the `snapshot` option of
+# the listener, and the progress of the snapshot is logged per table.
+#
+# + cdcListener - the cdc listener object
+# + tables - the fully-qualified names of the tables to take the snapshot of
+# + return - an error if the snapshot cannot be triggered, or `()` if successful
+public isolated function externSnapshot(Listener cdcListener, string[] tables) returns Error? = @java:Method {
+    name: "snapshot",
+    'class: "io.ballerina.lib.cdc.Listener"
+} external;
+
+# Attach point to call the native CDC listener latencies method.
+#
+# Returns the latencies of the stages through which the change events are processed, per fully-qualified table and
+# service method, as recorded since the listener started. The latencies are also published as the
+# `cdc_stage_latency_ms` metric when the metrics are enabled.
+#
+# + cdcListener - the cdc listener object
+# + return - the latencies of the stages, or an error if the listener is not started
+public isolated function externGetLatencies(Listener cdcListener) returns StageLatency[]|Error = @java:Method {
+    name: "getLatencies",
+    'class: "io.ballerina.lib.cdc.Listener"
+} external;
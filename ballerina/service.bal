@@ -19,6 +19,8 @@
 # A CDC service is a distinct service object that defines remote methods to handle
 # database change events such as `onRead`, `onCreate`, `onUpdate`, `onDelete`, and `onError`.
 # These methods are invoked by the CDC listener when corresponding events occur in the database.
+# Alternatively, a service can define the `onBatch` remote method, which receives all the change events of the
+# service in a batch as a `cdc:ChangeEvent[]`.
 #
 # Example:
 # ```ballerina
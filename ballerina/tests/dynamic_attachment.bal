@@ -131,3 +131,258 @@ function testDetachAfterStart() returns error? {
             "Cannot detach a CDC service from the listener once it is running.");
     check mysqlListener.gracefulStop();
 }
+
+@test:Config {}
+function testStartConcurrentDispatchWithNonIsolatedService() returns error? {
+    MockListener mysqlListener = new ({
+        database: {
+            username: "testUser",
+            password: "testPassword"
+        },
+        options: {
+            dispatch: {lanes: 4}
+        }
+    });
+
+    Service nonIsolatedService = service object {
+        remote function onCreate(record {} after, string tableName) returns error? {
+        }
+    };
+
+    check mysqlListener.attach(nonIsolatedService);
+    Error? result = mysqlListener.'start();
+    test:assertEquals(result is () ? "" : result.message(),
+            "Concurrent dispatch requires the attached services and their methods to be isolated.");
+    check mysqlListener.detach(nonIsolatedService);
+}
+
+@test:Config {}
+function testStartAsynchronousDispatchWithBatchService() returns error? {
+    MockListener mysqlListener = new ({
+        database: {
+            username: "testUser",
+            password: "testPassword"
+        },
+        options: {
+            dispatch: {maxInFlight: 16}
+        }
+    });
+
+    Service batchService = isolated service object {
+        isolated remote function onBatch(ChangeEvent[] events) returns error? {
+        }
+    };
+
+    check mysqlListener.attach(batchService);
+    Error? result = mysqlListener.'start();
+    test:assertEquals(result is () ? "" : result.message(),
+            "Asynchronous dispatch cannot be used with services that implement 'onBatch'.");
+    check mysqlListener.detach(batchService);
+}
+
+@test:Config {}
+function testStartRecordProcessingWithDispatch() returns error? {
+    MockListener mysqlListener = new ({
+        database: {
+            username: "testUser",
+            password: "testPassword"
+        },
+        options: {
+            dispatch: {lanes: 4},
+            recordProcessing: {threads: 4}
+        }
+    });
+
+    Service isolatedService = isolated service object {
+        isolated remote function onCreate(record {} after, string tableName) returns error? {
+        }
+    };
+
+    check mysqlListener.attach(isolatedService);
+    Error? result = mysqlListener.'start();
+    test:assertEquals(result is () ? "" : result.message(),
+            "The 'dispatch' option cannot be used along with 'recordProcessing'.");
+    check mysqlListener.detach(isolatedService);
+}
+
+@test:Config {}
+function testStartPipelinedDispatchWithEmptyBuffer() returns error? {
+    MockListener mysqlListener = new ({
+        database: {
+            username: "testUser",
+            password: "testPassword"
+        },
+        options: {
+            dispatch: {decodeWorkers: 4, bufferSize: 0}
+        }
+    });
+
+    Service isolatedService = isolated service object {
+        isolated remote function onCreate(record {} after, string tableName) returns error? {
+        }
+    };
+
+    check mysqlListener.attach(isolatedService);
+    Error? result = mysqlListener.'start();
+    test:assertEquals(result is () ? "" : result.message(),
+            "The 'bufferSize' of the 'dispatch' option must be greater than zero.");
+    check mysqlListener.detach(isolatedService);
+}
+
+@test:Config {}
+function testStartConcurrentDispatchWithoutLanes() returns error? {
+    MockListener mysqlListener = new ({
+        database: {
+            username: "testUser",
+            password: "testPassword"
+        },
+        options: {
+            dispatch: {lanes: 0}
+        }
+    });
+
+    Service isolatedService = isolated service object {
+        isolated remote function onCreate(record {} after, string tableName) returns error? {
+        }
+    };
+
+    check mysqlListener.attach(isolatedService);
+    Error? result = mysqlListener.'start();
+    test:assertEquals(result is () ? "" : result.message(),
+            "The 'lanes' of the 'dispatch' option must be greater than zero.");
+    check mysqlListener.detach(isolatedService);
+}
+
+@test:Config {}
+function testSnapshotBeforeStart() returns error? {
+    MockListener mysqlListener = new ({
+        database: {
+            username: "testUser",
+            password: "testPassword"
+        }
+    });
+
+    Error? result = mysqlListener.snapshot("store_db.orders");
+    test:assertEquals(result is () ? "" : result.message(),
+            "Failed to trigger the snapshot: the listener is not started.");
+}
+
+@test:Config {}
+function testLatenciesBeforeStart() returns error? {
+    MockListener mysqlListener = new ({
+        database: {
+            username: "testUser",
+            password: "testPassword"
+        }
+    });
+
+    StageLatency[]|Error result = mysqlListener.getLatencies();
+    test:assertEquals(result is Error ? result.message() : "",
+            "Failed to get the latencies: the listener is not started.");
+}
+
+@test:Config {}
+function testSkippedOperationsOfAttachedServices() returns error? {
+    MockListener mysqlListener = new ({
+        database: {
+            username: "testUser",
+            password: "testPassword"
+        },
+        options: {
+            skippedOperations: []
+        }
+    });
+
+    check mysqlListener.attach(testService);
+    test:assertEquals(mysqlListener.getEngineProperties()["skipped.operations"], "u,d,t");
+    check mysqlListener.detach(testService);
+}
+
+@test:Config {}
+function testSkippedOperationsMergedWithOptions() returns error? {
+    MockListener mysqlListener = new ({
+        database: {
+            username: "testUser",
+            password: "testPassword"
+        },
+        options: {
+            skippedOperations: [UPDATE]
+        }
+    });
+
+    Service createService = @ServiceConfig {tables: "store_db.orders"} service object {
+        remote function onCreate(record {} after) returns error? {
+        }
+    };
+    Service deleteService = @ServiceConfig {tables: "store_db.products"} service object {
+        remote function onDelete(record {} before) returns error? {
+        }
+    };
+
+    // The deletes are implemented by one of the services, so that only the updates skipped by the options and the truncates are skipped
+    check mysqlListener.attach(createService);
+    check mysqlListener.attach(deleteService);
+    test:assertEquals(mysqlListener.getEngineProperties()["skipped.operations"], "u,t");
+    check mysqlListener.detach(createService);
+    check mysqlListener.detach(deleteService);
+}
+
+@test:Config {}
+function testIncludedTablesMergedWithServiceTables() returns error? {
+    MockListener mysqlListener = new ({
+        database: {
+            username: "testUser",
+            password: "testPassword",
+            includedTables: "store_db.orders"
+        }
+    });
+
+    // The names of the tables are quoted, so that the characters of a regular expression are matched literally
+    Service reviewService = @ServiceConfig {tables: ["store_db.product_reviews", "store_db.items+archive"]}
+    service object {
+        remote function onCreate(record {} after) returns error? {
+        }
+    };
+
+    check mysqlListener.attach(reviewService);
+    test:assertEquals(mysqlListener.getEngineProperties()["table.include.list"],
+            "store_db.orders,\\Qstore_db\\E\\.\\Qproduct_reviews\\E,\\Qstore_db\\E\\.\\Qitems+archive\\E");
+    check mysqlListener.detach(reviewService);
+}
+
+@test:Config {}
+function testIncludedTablesWithExcludedTables() returns error? {
+    MockListener mysqlListener = new ({
+        database: {
+            username: "testUser",
+            password: "testPassword",
+            excludedTables: "store_db.orders"
+        }
+    });
+
+    Service reviewService = @ServiceConfig {tables: "store_db.product_reviews"} service object {
+        remote function onCreate(record {} after) returns error? {
+        }
+    };
+
+    check mysqlListener.attach(reviewService);
+    test:assertFalse(mysqlListener.getEngineProperties().hasKey("table.include.list"),
+            msg = "Tables of the services are included along with the excluded tables.");
+    check mysqlListener.detach(reviewService);
+}
+
+@test:Config {}
+function testIncludedTablesWithServiceOfAllTables() returns error? {
+    MockListener mysqlListener = new ({
+        database: {
+            username: "testUser",
+            password: "testPassword",
+            includedTables: "store_db.orders"
+        }
+    });
+
+    // The service without the tables receives the events of all the tables, so only the tables of the user are kept
+    check mysqlListener.attach(testService);
+    test:assertEquals(mysqlListener.getEngineProperties()["table.include.list"], "store_db.orders");
+    check mysqlListener.detach(testService);
+}
@@ -36,3 +36,19 @@ INSERT INTO product_reviews VALUES
 (1, 1001, 5, 'Amazing camera'),
 (2, 1001, 4, 'Great battery life'),
 (3, 1002, 5, 'Best iPhone yet');
+
+CREATE TABLE orders (
+  id INT PRIMARY KEY,
+  product_id INT,
+  quantity INT,
+  FOREIGN KEY (product_id) REFERENCES products(id)
+);
+
+INSERT INTO orders VALUES
+(1, 1001, 2),
+(2, 1002, 1);
+
+CREATE TABLE counters (
+  id INT PRIMARY KEY,
+  hits INT
+);
@@ -15,6 +15,7 @@
 // under the License.
 
 import ballerina/lang.runtime;
+import ballerina/observe;
 import ballerina/test;
 import ballerinax/java.jdbc;
 
@@ -117,3 +118,925 @@ function testMockListenerEvents() returns error? {
 
     check testListener.gracefulStop();
 }
+
+type ProductReview record {|
+    int review_id;
+    int product_id;
+    int rating;
+    string comment;
+|};
+
+int reviewReadCount = 0;
+int[] reviewReadIds = [];
+
+// Counts the READ events of the reviews, which are bound to the record type to check the conversion of the values
+Service reviewReadService =
+@ServiceConfig {tables: "store_db.product_reviews"}
+service object {
+    remote function onRead(ProductReview after, string tableName) returns error? {
+        reviewReadCount = reviewReadCount + 1;
+        reviewReadIds.push(after.review_id);
+    }
+};
+
+type ReviewListenerConfiguration record {|
+    string engineName;
+    FileInternalSchemaStorage|CompactedInternalSchemaStorage|InMemorySchemaStorage|JdbcSchemaStorage
+        internalSchemaStorage = {inMemory: true};
+    FileOffsetStorage|MappedOffsetStorage|InMemoryOffsetStorage|JdbcOffsetStorage offsetStorage = {inMemory: true};
+    Options options = {};
+    EventFormat eventFormat = JSON;
+|};
+
+function getReviewListener(*ReviewListenerConfiguration config) returns MockListener {
+    return new ({
+        database: {
+            username,
+            password,
+            port,
+            includedDatabases: database,
+            includedTables: "store_db.product_reviews"
+        },
+        engineName: config.engineName,
+        internalSchemaStorage: config.internalSchemaStorage,
+        offsetStorage: config.offsetStorage,
+        options: config.options,
+        eventFormat: config.eventFormat
+    });
+}
+
+// Starts the listener with the counting service of the reviews, and waits for the snapshot of the reviews
+function startReviewListener(MockListener reviewListener) returns error? {
+    check reviewListener.attach(reviewReadService);
+    check reviewListener.start();
+    runtime:sleep(5);
+}
+
+// Resets the counts of the reviews before each test which uses the counting service
+function resetReviewReads() {
+    reviewReadCount = 0;
+    reviewReadIds = [];
+}
+
+@test:Config {
+    before: resetReviewReads
+}
+function testConnectEventFormat() returns error? {
+    MockListener connectListener = getReviewListener(
+        engineName = "connect-format-connector",
+        internalSchemaStorage = {fileName: "tmp/connect-format/dbhistory.dat"},
+        offsetStorage = {fileName: "tmp/connect-format/debezium-offsets.dat"},
+        eventFormat = CONNECT
+    );
+    check startReviewListener(connectListener);
+
+    test:assertEquals(reviewReadCount, 3, msg = "READ event count mismatch.");
+    check connectListener.gracefulStop();
+}
+
+@test:Config {
+    before: resetReviewReads
+}
+function testJsonBytesEventFormat() returns error? {
+    MockListener jsonBytesListener = getReviewListener(
+        engineName = "json-bytes-format-connector",
+        internalSchemaStorage = {fileName: "tmp/json-bytes-format/dbhistory.dat"},
+        offsetStorage = {fileName: "tmp/json-bytes-format/debezium-offsets.dat"},
+        eventFormat = JSON_BYTES
+    );
+    check startReviewListener(jsonBytesListener);
+
+    test:assertEquals(reviewReadCount, 3, msg = "READ event count mismatch.");
+    check jsonBytesListener.gracefulStop();
+}
+
+int offsetReplayReadCount = 0;
+int offsetReplayCreateCount = 0;
+
+Service offsetReplayService =
+@ServiceConfig {tables: "store_db.orders"}
+service object {
+    remote function onRead(record {} after, string tableName) returns error? {
+        offsetReplayReadCount = offsetReplayReadCount + 1;
+    }
+
+    remote function onCreate(record {} after, string tableName) returns error? {
+        offsetReplayCreateCount = offsetReplayCreateCount + 1;
+    }
+};
+
+function getOffsetReplayListener() returns MockListener {
+    return new ({
+        database: {
+            username,
+            password,
+            port,
+            includedDatabases: database,
+            includedTables: "store_db.orders"
+        },
+        engineName: "offset-replay-connector",
+        internalSchemaStorage: {fileName: "tmp/offset-replay/dbhistory.dat"},
+        offsetStorage: {fileName: "tmp/offset-replay/debezium-offsets.dat", commitPolicy: EVERY_BATCH}
+    });
+}
+
+@test:Config {
+}
+function testOffsetCommitReplayAfterRestart() returns error? {
+    MockListener offsetReplayListener = getOffsetReplayListener();
+    check offsetReplayListener.attach(offsetReplayService);
+    check offsetReplayListener.start();
+    runtime:sleep(5);
+    test:assertEquals(offsetReplayReadCount, 2, msg = "READ event count mismatch.");
+    check offsetReplayListener.gracefulStop();
+
+    _ = check mysqlClient->execute(`INSERT INTO orders (id, product_id, quantity) VALUES (3, 1001, 5)`);
+    offsetReplayReadCount = 0;
+
+    MockListener restartedListener = getOffsetReplayListener();
+    check restartedListener.attach(offsetReplayService);
+    check restartedListener.start();
+    runtime:sleep(5);
+
+    // Only the event captured while the listener was stopped is expected, the committed events are not replayed
+    int replayedEventCount = offsetReplayReadCount + offsetReplayCreateCount - 1;
+    test:assertEquals(replayedEventCount, 0, msg = "Committed events are replayed after the restart.");
+    test:assertEquals(offsetReplayCreateCount, 1, msg = "CREATE event count mismatch.");
+    check restartedListener.gracefulStop();
+}
+
+int commitPolicyReadCount = 0;
+
+Service commitPolicyService =
+@ServiceConfig {tables: "store_db.orders"}
+service object {
+    remote function onRead(record {} after) returns error? {
+        commitPolicyReadCount = commitPolicyReadCount + 1;
+    }
+};
+
+function getCommitPolicyListener(string engineName, string tableName, OffsetCommitPolicy commitPolicy)
+        returns MockListener {
+    return new ({
+        database: {
+            username,
+            password,
+            port,
+            includedDatabases: database,
+            includedTables: "store_db.orders"
+        },
+        engineName,
+        internalSchemaStorage: {inMemory: true},
+        offsetStorage: {
+            url: "jdbc:h2:./tmp/commit-policy/cdc",
+            user: "sa",
+            password: "",
+            tableName,
+            commitPolicy,
+            flushInterval: 3600
+        }
+    });
+}
+
+@test:Config {
+}
+function testOffsetCommitPolicy() returns error? {
+    jdbc:Client offsetClient = check new ("jdbc:h2:./tmp/commit-policy/cdc", "sa", "");
+    _ = check offsetClient->execute(`DROP TABLE IF EXISTS every_batch_offsets`);
+    _ = check offsetClient->execute(`DROP TABLE IF EXISTS periodic_offsets`);
+
+    MockListener everyBatchListener = getCommitPolicyListener("every-batch-connector", "every_batch_offsets",
+            EVERY_BATCH);
+    MockListener periodicListener = getCommitPolicyListener("periodic-connector", "periodic_offsets", PERIODIC);
+    check everyBatchListener.attach(commitPolicyService);
+    check periodicListener.attach(commitPolicyService);
+    check everyBatchListener.start();
+    check periodicListener.start();
+    runtime:sleep(5);
+    test:assertTrue(commitPolicyReadCount >= 4, msg = "READ event count mismatch.");
+
+    // The offsets are inspected while the listeners run, as a graceful stop commits the offsets under every policy
+    int everyBatchOffsetCount = check offsetClient->queryRow(`SELECT COUNT(*) FROM every_batch_offsets`);
+    int periodicOffsetCount = check offsetClient->queryRow(`SELECT COUNT(*) FROM periodic_offsets`);
+    test:assertEquals(everyBatchOffsetCount, 1, msg = "Offsets are not committed after every batch.");
+    test:assertEquals(periodicOffsetCount, 0, msg = "Offsets are committed before the flush interval elapses.");
+
+    check everyBatchListener.gracefulStop();
+    check periodicListener.gracefulStop();
+    periodicOffsetCount = check offsetClient->queryRow(`SELECT COUNT(*) FROM periodic_offsets`);
+    test:assertEquals(periodicOffsetCount, 1, msg = "Offsets are not committed when the listener stops.");
+    check offsetClient.close();
+}
+
+type ProductReviewEvent record {|
+    *ChangeEvent;
+    ProductReview? before = ();
+    ProductReview? after = ();
+|};
+
+int batchReadCount = 0;
+
+Service batchService =
+@ServiceConfig {tables: "store_db.product_reviews"}
+service object {
+    remote function onBatch(ProductReviewEvent[] events) returns error? {
+        foreach ProductReviewEvent event in events {
+            if event.op == "r" && event.tableName == "product_reviews" && event.after !is () {
+                batchReadCount = batchReadCount + 1;
+            }
+        }
+    }
+};
+
+@test:Config {
+}
+function testOnBatchEvents() returns error? {
+    MockListener batchListener = new ({
+        database: {
+            username,
+            password,
+            port,
+            includedDatabases: database,
+            includedTables: "store_db.product_reviews"
+        },
+        engineName: "batch-connector",
+        internalSchemaStorage: {fileName: "tmp/batch/dbhistory.dat"},
+        offsetStorage: {fileName: "tmp/batch/debezium-offsets.dat"},
+        options: {maxLinger: 1}
+    });
+
+    check batchListener.attach(batchService);
+    check batchListener.start();
+    runtime:sleep(5);
+
+    test:assertEquals(batchReadCount, 3, msg = "READ event count mismatch.");
+    check batchListener.gracefulStop();
+}
+
+type Counter record {|
+    int id;
+    int hits;
+|};
+
+int compactedCreateCount = 0;
+int compactedUpdateCount = 0;
+int compactedDeleteCount = 0;
+int compactedHits = -1;
+
+Service compactedService =
+@ServiceConfig {tables: "store_db.counters", compact: true}
+service object {
+    remote function onCreate(Counter after) returns error? {
+        compactedCreateCount = compactedCreateCount + 1;
+        compactedHits = after.hits;
+    }
+
+    remote function onUpdate(Counter before, Counter after) returns error? {
+        compactedUpdateCount = compactedUpdateCount + 1;
+    }
+
+    remote function onDelete(Counter before) returns error? {
+        compactedDeleteCount = compactedDeleteCount + 1;
+    }
+};
+
+@test:Config {
+}
+function testCompactedEvents() returns error? {
+    MockListener compactedListener = new ({
+        database: {
+            username,
+            password,
+            port,
+            includedDatabases: database,
+            includedTables: "store_db.counters"
+        },
+        engineName: "compacted-connector",
+        internalSchemaStorage: {fileName: "tmp/compacted/dbhistory.dat"},
+        offsetStorage: {fileName: "tmp/compacted/debezium-offsets.dat"},
+        options: {maxLinger: 2}
+    });
+
+    check compactedListener.attach(compactedService);
+    check compactedListener.start();
+    runtime:sleep(5);
+
+    // The changes are made together, so that their events are received in the same batch
+    _ = check mysqlClient->batchExecute([
+        `INSERT INTO counters (id, hits) VALUES (1, 0)`,
+        `UPDATE counters SET hits = 1 WHERE id = 1`,
+        `UPDATE counters SET hits = 2 WHERE id = 1`,
+        `UPDATE counters SET hits = 3 WHERE id = 1`,
+        `INSERT INTO counters (id, hits) VALUES (2, 0)`,
+        `DELETE FROM counters WHERE id = 2`
+    ]);
+    runtime:sleep(5);
+
+    test:assertEquals(compactedCreateCount, 1, msg = "CREATE event count mismatch.");
+    test:assertEquals(compactedHits, 3, msg = "Compacted event does not carry the last state of the row.");
+    test:assertEquals(compactedUpdateCount, 0, msg = "UPDATE events are not compacted.");
+    test:assertEquals(compactedDeleteCount, 0, msg = "Created and deleted row is not dropped.");
+    check compactedListener.gracefulStop();
+}
+
+@test:Config {
+    before: resetReviewReads
+}
+function testRecordProcessingWithAsyncEngine() returns error? {
+    MockListener recordProcessingListener = getReviewListener(
+        engineName = "record-processing-connector",
+        internalSchemaStorage = {fileName: "tmp/record-processing/dbhistory.dat"},
+        offsetStorage = {fileName: "tmp/record-processing/debezium-offsets.dat"},
+        options = {recordProcessing: {threads: 2, serialConsumer: true}}
+    );
+    check startReviewListener(recordProcessingListener);
+
+    test:assertEquals(reviewReadCount, 3, msg = "READ event count mismatch.");
+    check recordProcessingListener.gracefulStop();
+}
+
+function getMappedOffsetListener() returns MockListener {
+    return getReviewListener(
+        engineName = "mapped-offset-connector",
+        internalSchemaStorage = {fileName: "tmp/mapped-offset/dbhistory.dat"},
+        offsetStorage = {logFileName: "tmp/mapped-offset/debezium-offsets.log", commitPolicy: EVERY_BATCH}
+    );
+}
+
+@test:Config {
+    before: resetReviewReads
+}
+function testMappedOffsetStorageRecovery() returns error? {
+    MockListener mappedOffsetListener = getMappedOffsetListener();
+    check startReviewListener(mappedOffsetListener);
+    test:assertEquals(reviewReadCount, 3, msg = "READ event count mismatch.");
+    check mappedOffsetListener.gracefulStop();
+
+    MockListener restartedListener = getMappedOffsetListener();
+    check startReviewListener(restartedListener);
+
+    // The snapshot is completed according to the offsets recovered from the log, so it is not taken again
+    test:assertEquals(reviewReadCount, 3, msg = "Snapshot is taken again after the restart.");
+    check restartedListener.gracefulStop();
+}
+
+function getCompactedHistoryListener() returns MockListener {
+    return getReviewListener(
+        engineName = "compacted-history-connector",
+        internalSchemaStorage = {historyFileName: "tmp/compacted-history/dbhistory.log", compactionThreshold: 1, retainedRecords: 0},
+        offsetStorage = {fileName: "tmp/compacted-history/debezium-offsets.dat"}
+    );
+}
+
+@test:Config {
+    before: resetReviewReads
+}
+function testCompactedSchemaHistoryRecovery() returns error? {
+    MockListener compactedHistoryListener = getCompactedHistoryListener();
+    check startReviewListener(compactedHistoryListener);
+    test:assertEquals(reviewReadCount, 3, msg = "READ event count mismatch.");
+    check compactedHistoryListener.gracefulStop();
+
+    // The schema of the table is recovered from the compacted snapshot of the history
+    MockListener restartedListener = getCompactedHistoryListener();
+    check startReviewListener(restartedListener);
+    test:assertEquals(reviewReadCount, 3, msg = "Snapshot is taken again after the restart.");
+    check restartedListener.gracefulStop();
+}
+
+int compactedRestartReadCount = 0;
+int compactedRestartCreateCount = 0;
+json compactedRestartPrice = ();
+
+Service compactedRestartService =
+@ServiceConfig {tables: "store_db.compacted_history_items"}
+service object {
+    remote function onRead(record {} after) returns error? {
+        compactedRestartReadCount = compactedRestartReadCount + 1;
+    }
+
+    remote function onCreate(record {} after) returns error? {
+        compactedRestartCreateCount = compactedRestartCreateCount + 1;
+        compactedRestartPrice = check after["price"].ensureType();
+    }
+};
+
+function getCompactedRestartListener() returns MockListener {
+    return new ({
+        database: {
+            username,
+            password,
+            port,
+            includedDatabases: database,
+            includedTables: "store_db.compacted_history_items"
+        },
+        engineName: "compacted-restart-connector",
+        internalSchemaStorage: {historyFileName: "tmp/compacted-restart/dbhistory.log", compactionThreshold: 1, retainedRecords: 0},
+        offsetStorage: {url: "jdbc:h2:./tmp/compacted-restart/cdc", user: "sa", password: "", tableName: "compacted_restart_offsets"}
+    });
+}
+
+@test:Config {
+}
+function testCompactedSchemaHistoryRestartBeforeCommittedOffset() returns error? {
+    jdbc:Client offsetClient = check new ("jdbc:h2:./tmp/compacted-restart/cdc", "sa", "");
+    _ = check offsetClient->execute(`DROP TABLE IF EXISTS compacted_restart_offsets`);
+    _ = check mysqlClient->execute(`DROP TABLE IF EXISTS compacted_history_items`);
+    _ = check mysqlClient->execute(`CREATE TABLE compacted_history_items (id INT PRIMARY KEY, name VARCHAR(50))`);
+    _ = check mysqlClient->execute(`INSERT INTO compacted_history_items (id, name) VALUES (1, 'first')`);
+
+    MockListener snapshotListener = getCompactedRestartListener();
+    check snapshotListener.attach(compactedRestartService);
+    check snapshotListener.start();
+    runtime:sleep(5);
+    test:assertEquals(compactedRestartReadCount, 1, msg = "READ event count mismatch.");
+    check snapshotListener.gracefulStop();
+    string snapshotOffset = check offsetClient->queryRow(`SELECT offset_value FROM compacted_restart_offsets`);
+
+    // The history is recovered up to the snapshot offset, so the schema change after it is not compacted
+    MockListener streamingListener = getCompactedRestartListener();
+    check streamingListener.attach(compactedRestartService);
+    check streamingListener.start();
+    runtime:sleep(5);
+    _ = check mysqlClient->execute(`ALTER TABLE compacted_history_items ADD COLUMN price INT DEFAULT 0`);
+    _ = check mysqlClient->execute(
+        `INSERT INTO compacted_history_items (id, name, price) VALUES (2, 'second', 20)`);
+    runtime:sleep(5);
+    test:assertEquals(compactedRestartCreateCount, 1, msg = "CREATE event count mismatch.");
+    test:assertEquals(compactedRestartPrice, 20, msg = "CREATE event does not carry the added column.");
+    check streamingListener.gracefulStop();
+
+    // Rolls the committed offset back to the snapshot, as if the listener stopped before committing the changes
+    _ = check offsetClient->execute(`UPDATE compacted_restart_offsets SET offset_value = ${snapshotOffset}`);
+    compactedRestartPrice = ();
+
+    MockListener restartedListener = getCompactedRestartListener();
+    check restartedListener.attach(compactedRestartService);
+    check restartedListener.start();
+    runtime:sleep(5);
+    test:assertEquals(compactedRestartCreateCount, 2, msg = "Changes after the committed offset are not replayed.");
+    test:assertEquals(compactedRestartPrice, 20, msg = "Replayed CREATE event does not carry the added column.");
+    check restartedListener.gracefulStop();
+
+    _ = check mysqlClient->execute(`DROP TABLE compacted_history_items`);
+    check offsetClient.close();
+}
+
+@test:Config {
+    before: resetReviewReads
+}
+function testInMemoryStorage() returns error? {
+    MockListener inMemoryListener = getReviewListener(engineName = "in-memory-connector");
+    check startReviewListener(inMemoryListener);
+
+    test:assertEquals(reviewReadCount, 3, msg = "READ event count mismatch.");
+    check inMemoryListener.gracefulStop();
+}
+
+@test:Config {
+    before: resetReviewReads
+}
+function testStageLatencies() returns error? {
+    MockListener latencyListener = getReviewListener(engineName = "latency-connector");
+    check startReviewListener(latencyListener);
+
+    test:assertEquals(reviewReadCount, 3, msg = "READ event count mismatch.");
+    StageLatency[] latencies = check latencyListener.getLatencies();
+    check latencyListener.gracefulStop();
+
+    test:assertEquals(latencies.length(), 6, msg = "Stage count mismatch.");
+    foreach StageLatency latency in latencies {
+        test:assertEquals(latency.tableName, "store_db.product_reviews");
+        test:assertEquals(latency.method, "onRead");
+        test:assertEquals(latency.count, 3, msg = string `Event count mismatch for stage ${latency.stage}.`);
+        test:assertTrue(latency.mean <= latency.max, msg = string `Latency mismatch for stage ${latency.stage}.`);
+    }
+}
+
+function getJdbcStorageListener() returns MockListener {
+    return getReviewListener(
+        engineName = "jdbc-storage-connector",
+        internalSchemaStorage = {url: "jdbc:h2:./tmp/jdbc-storage/cdc", user: "sa", password: ""},
+        offsetStorage = {url: "jdbc:h2:./tmp/jdbc-storage/cdc", user: "sa", password: "", commitPolicy: EVERY_BATCH}
+    );
+}
+
+@test:Config {
+    before: resetReviewReads
+}
+function testJdbcStorageRecovery() returns error? {
+    MockListener jdbcStorageListener = getJdbcStorageListener();
+    check startReviewListener(jdbcStorageListener);
+    test:assertEquals(reviewReadCount, 3, msg = "READ event count mismatch.");
+    check jdbcStorageListener.gracefulStop();
+
+    // The offsets and the schema history are recovered from the H2 database
+    MockListener restartedListener = getJdbcStorageListener();
+    check startReviewListener(restartedListener);
+    test:assertEquals(reviewReadCount, 3, msg = "Snapshot is taken again after the restart.");
+    check restartedListener.gracefulStop();
+}
+
+@test:Config {
+    before: resetReviewReads
+}
+function testIncrementalSnapshot() returns error? {
+    MockListener incrementalSnapshotListener = getReviewListener(
+        engineName = "incremental-snapshot-connector",
+        options = {
+            snapshotMode: NO_DATA,
+            snapshot: {chunkSize: 2, incremental: {readOnly: true}}
+        }
+    );
+    check startReviewListener(incrementalSnapshotListener);
+    test:assertEquals(reviewReadCount, 0, msg = "READ events are received before the snapshot.");
+
+    // The rows are read in chunks while the changes are streamed, without a signaling table in the database
+    check incrementalSnapshotListener.snapshot("store_db.product_reviews");
+    runtime:sleep(10);
+    check incrementalSnapshotListener.gracefulStop();
+
+    test:assertEquals(reviewReadCount, 3, msg = "READ event count mismatch.");
+    test:assertEquals(reviewReadIds.sort(), [1, 2, 3], msg = "READ events mismatch.");
+}
+
+@test:Config {
+}
+function testSnapshotWithoutIncrementalSnapshots() returns error? {
+    MockListener snapshotDisabledListener = new ({
+        database: {
+            username,
+            password,
+            port,
+            includedDatabases: database,
+            includedTables: "store_db.product_reviews"
+        },
+        engineName: "snapshot-disabled-connector",
+        internalSchemaStorage: {inMemory: true},
+        offsetStorage: {inMemory: true},
+        options: {
+            snapshotMode: NO_DATA
+        }
+    });
+
+    check snapshotDisabledListener.attach(testService);
+    check snapshotDisabledListener.start();
+    Error? result = snapshotDisabledListener.snapshot("store_db.product_reviews");
+    check snapshotDisabledListener.gracefulStop();
+    test:assertEquals(result is () ? "" : result.message(),
+            "Failed to trigger the snapshot: incremental snapshots are not enabled through the " +
+            "'snapshot.incremental' option of the listener.");
+}
+
+int startPositionReadCount = 0;
+int[] startPositionCreatedIds = [];
+
+Service startPositionService =
+@ServiceConfig {tables: "store_db.start_position_items"}
+service object {
+    remote function onRead(record {} after) returns error? {
+        startPositionReadCount = startPositionReadCount + 1;
+    }
+
+    remote function onCreate(record {} after) returns error? {
+        startPositionCreatedIds.push(check after["id"].ensureType());
+    }
+};
+
+type BinlogPosition record {
+    string File;
+    int Position;
+};
+
+@test:Config {
+}
+function testStartPosition() returns error? {
+    jdbc:Client offsetClient = check new ("jdbc:h2:./tmp/start-position/cdc", "sa", "");
+    _ = check offsetClient->execute(`DROP TABLE IF EXISTS start_position_offsets`);
+    _ = check mysqlClient->execute(`DROP TABLE IF EXISTS start_position_items`);
+    _ = check mysqlClient->execute(`CREATE TABLE start_position_items (id INT PRIMARY KEY, name VARCHAR(50))`);
+    _ = check mysqlClient->execute(`INSERT INTO start_position_items (id, name) VALUES (1, 'before')`);
+    BinlogPosition position = check mysqlClient->queryRow(`SHOW MASTER STATUS`);
+    _ = check mysqlClient->execute(`INSERT INTO start_position_items (id, name) VALUES (2, 'after')`);
+
+    // The schema history is missing, so the schema of the table is read before streaming from the position
+    MockListener startPositionListener = new ({
+        database: {
+            username,
+            password,
+            port,
+            includedDatabases: database,
+            includedTables: "store_db.start_position_items"
+        },
+        engineName: "start-position-connector",
+        internalSchemaStorage: {inMemory: true},
+        offsetStorage: {url: "jdbc:h2:./tmp/start-position/cdc", user: "sa", password: "", tableName: "start_position_offsets"},
+        startPosition: {offset: {file: position.File, pos: position.Position}}
+    });
+    check startPositionListener.attach(startPositionService);
+    check startPositionListener.start();
+    runtime:sleep(5);
+    _ = check mysqlClient->execute(`INSERT INTO start_position_items (id, name) VALUES (3, 'streamed')`);
+    runtime:sleep(5);
+    check startPositionListener.gracefulStop();
+
+    test:assertEquals(startPositionReadCount, 0, msg = "Snapshot of the data is taken.");
+    test:assertEquals(startPositionCreatedIds, [2, 3], msg = "Changes after the start position are not streamed.");
+
+    _ = check mysqlClient->execute(`DROP TABLE start_position_items`);
+    check offsetClient.close();
+}
+
+int[] pipelinedCreatedIds = [];
+
+Service pipelinedService =
+@ServiceConfig {tables: "store_db.pipelined_items"}
+service object {
+    remote function onCreate(record {} after) returns error? {
+        pipelinedCreatedIds.push(check after["id"].ensureType());
+    }
+};
+
+@test:Config {
+}
+function testPipelinedDispatchOrder() returns error? {
+    _ = check mysqlClient->execute(`DROP TABLE IF EXISTS pipelined_items`);
+    _ = check mysqlClient->execute(`CREATE TABLE pipelined_items (id INT PRIMARY KEY, name VARCHAR(50))`);
+
+    // The buffer is smaller than the batch, so the decode workers wait for the events to be dispatched
+    MockListener pipelinedListener = new ({
+        database: {
+            username,
+            password,
+            port,
+            includedDatabases: database,
+            includedTables: "store_db.pipelined_items"
+        },
+        engineName: "pipelined-connector",
+        internalSchemaStorage: {inMemory: true},
+        offsetStorage: {inMemory: true},
+        options: {
+            snapshotMode: NO_DATA,
+            dispatch: {decodeWorkers: 4, bufferSize: 2}
+        }
+    });
+    check pipelinedListener.attach(pipelinedService);
+    check pipelinedListener.start();
+    runtime:sleep(5);
+
+    int[] ids = from int id in 1 ... 20 select id;
+    _ = check mysqlClient->execute(`INSERT INTO pipelined_items (id, name)
+            VALUES (1, 'a'), (2, 'b'), (3, 'c'), (4, 'd'), (5, 'e'), (6, 'f'), (7, 'g'), (8, 'h'), (9, 'i'),
+            (10, 'j'), (11, 'k'), (12, 'l'), (13, 'm'), (14, 'n'), (15, 'o'), (16, 'p'), (17, 'q'), (18, 'r'),
+            (19, 's'), (20, 't')`);
+    runtime:sleep(5);
+    check pipelinedListener.gracefulStop();
+
+    test:assertEquals(pipelinedCreatedIds, ids, msg = "Events are not delivered in the order in which they are captured.");
+
+    _ = check mysqlClient->execute(`DROP TABLE pipelined_items`);
+}
+
+isolated int asyncDispatchReadCount = 0;
+isolated int asyncDispatchCreateCount = 0;
+
+// Handles the events for varying times, so that the events of a batch complete out of order
+Service asyncDispatchService =
+@ServiceConfig {tables: "store_db.async_dispatch_items"}
+isolated service object {
+    isolated remote function onRead(record {} after) returns error? {
+        int id = check after["id"].ensureType();
+        runtime:sleep(<decimal>(id % 3) * 0.2);
+        lock {
+            asyncDispatchReadCount += 1;
+        }
+    }
+
+    isolated remote function onCreate(record {} after) returns error? {
+        int id = check after["id"].ensureType();
+        runtime:sleep(<decimal>(id % 3) * 0.2);
+        lock {
+            asyncDispatchCreateCount += 1;
+        }
+    }
+};
+
+isolated function getAsyncDispatchCounts() returns [int, int] {
+    int readCount;
+    int createCount;
+    lock {
+        readCount = asyncDispatchReadCount;
+    }
+    lock {
+        createCount = asyncDispatchCreateCount;
+    }
+    return [readCount, createCount];
+}
+
+isolated function resetAsyncDispatchReads() {
+    lock {
+        asyncDispatchReadCount = 0;
+    }
+}
+
+function getAsyncDispatchListener() returns MockListener {
+    return new ({
+        database: {
+            username,
+            password,
+            port,
+            includedDatabases: database,
+            includedTables: "store_db.async_dispatch_items"
+        },
+        engineName: "async-dispatch-connector",
+        internalSchemaStorage: {fileName: "tmp/async-dispatch/dbhistory.dat"},
+        offsetStorage: {fileName: "tmp/async-dispatch/debezium-offsets.dat", commitPolicy: EVERY_BATCH},
+        options: {
+            dispatch: {maxInFlight: 4}
+        }
+    });
+}
+
+@test:Config {
+}
+function testAsynchronousDispatchReplayAfterRestart() returns error? {
+    _ = check mysqlClient->execute(`DROP TABLE IF EXISTS async_dispatch_items`);
+    _ = check mysqlClient->execute(`CREATE TABLE async_dispatch_items (id INT PRIMARY KEY, name VARCHAR(50))`);
+    _ = check mysqlClient->execute(`INSERT INTO async_dispatch_items (id, name)
+            VALUES (1, 'a'), (2, 'b'), (3, 'c'), (4, 'd'), (5, 'e'), (6, 'f'), (7, 'g'), (8, 'h')`);
+
+    MockListener asyncDispatchListener = getAsyncDispatchListener();
+    check asyncDispatchListener.attach(asyncDispatchService);
+    check asyncDispatchListener.start();
+    runtime:sleep(5);
+    [int, int] [readCount, _] = getAsyncDispatchCounts();
+    test:assertEquals(readCount, 8, msg = "READ event count mismatch.");
+    check asyncDispatchListener.gracefulStop();
+
+    _ = check mysqlClient->execute(`INSERT INTO async_dispatch_items (id, name) VALUES (9, 'i'), (10, 'j')`);
+    resetAsyncDispatchReads();
+
+    MockListener restartedListener = getAsyncDispatchListener();
+    check restartedListener.attach(asyncDispatchService);
+    check restartedListener.start();
+    runtime:sleep(5);
+    check restartedListener.gracefulStop();
+
+    // The offsets are committed once the events in flight are handled, so only the new events are received
+    [int, int] [replayedCount, createCount] = getAsyncDispatchCounts();
+    test:assertEquals(replayedCount, 0, msg = "Committed events are replayed after the restart.");
+    test:assertEquals(createCount, 2, msg = "CREATE event count mismatch.");
+
+    _ = check mysqlClient->execute(`DROP TABLE async_dispatch_items`);
+}
+
+int metricsOrderReadCount = 0;
+
+// Does not implement onDelete, so that the deletes are skipped, and fails the updates
+Service metricsItemService =
+@ServiceConfig {tables: "store_db.metrics_items"}
+service object {
+    remote function onRead(record {} after) returns error? {
+    }
+
+    remote function onCreate(record {} after) returns error? {
+    }
+
+    remote function onUpdate(record {} before, record {} after) returns error? {
+        return error("Failed to handle the update.");
+    }
+};
+
+Service metricsOrderService =
+@ServiceConfig {tables: "store_db.orders"}
+service object {
+    remote function onRead(record {} after) returns error? {
+        metricsOrderReadCount = metricsOrderReadCount + 1;
+    }
+};
+
+// Reads a counter of the listener from the metrics registry, which is enabled through the Config.toml of the tests
+function getCounterValue(string name, string tableName, string op) returns int {
+    observe:Counter|observe:Gauge? metric = observe:lookupMetric(name,
+            {listener: "metrics-connector", 'table: tableName, op});
+    return metric is observe:Counter ? metric.getValue() : 0;
+}
+
+@test:Config {
+}
+function testEventMetrics() returns error? {
+    _ = check mysqlClient->execute(`DROP TABLE IF EXISTS metrics_items`);
+    _ = check mysqlClient->execute(`CREATE TABLE metrics_items (id INT PRIMARY KEY, name VARCHAR(50))`);
+    _ = check mysqlClient->execute(`INSERT INTO metrics_items (id, name) VALUES (1, 'first'), (2, 'second')`);
+
+    // The reviews are captured without a service, so that their events are dropped
+    MockListener metricsListener = new ({
+        database: {
+            username,
+            password,
+            port,
+            includedDatabases: database,
+            includedTables: "store_db.product_reviews"
+        },
+        engineName: "metrics-connector",
+        internalSchemaStorage: {inMemory: true},
+        offsetStorage: {inMemory: true}
+    });
+    check metricsListener.attach(metricsItemService);
+    check metricsListener.attach(metricsOrderService);
+    check metricsListener.start();
+    runtime:sleep(5);
+    _ = check mysqlClient->execute(`INSERT INTO metrics_items (id, name) VALUES (3, 'third')`);
+    _ = check mysqlClient->execute(`UPDATE metrics_items SET name = 'updated' WHERE id = 1`);
+    _ = check mysqlClient->execute(`DELETE FROM metrics_items WHERE id = 2`);
+    runtime:sleep(5);
+    check metricsListener.gracefulStop();
+
+    string itemsTable = "store_db.metrics_items";
+    test:assertEquals(getCounterValue("cdc_events_received_total", itemsTable, "r"), 2);
+    test:assertEquals(getCounterValue("cdc_events_dispatched_total", itemsTable, "r"), 2);
+    test:assertEquals(getCounterValue("cdc_events_dispatched_total", itemsTable, "c"), 1);
+    test:assertEquals(getCounterValue("cdc_events_received_total", itemsTable, "u"), 1);
+    test:assertEquals(getCounterValue("cdc_events_failed_total", itemsTable, "u"), 1);
+    test:assertEquals(getCounterValue("cdc_events_dispatched_total", itemsTable, "u"), 0);
+    test:assertEquals(getCounterValue("cdc_events_dispatched_total", itemsTable, "d"), 0,
+            msg = "Skipped operation is dispatched.");
+
+    // The orders are inserted by the other tests as well, so their counters are compared with the received events
+    test:assertTrue(metricsOrderReadCount > 0, msg = "READ events are not received.");
+    test:assertEquals(getCounterValue("cdc_events_dispatched_total", "store_db.orders", "r"), metricsOrderReadCount);
+
+    // The first review fails as it has no service, and the rest of the reviews are dropped before they are decoded
+    string reviewsTable = "store_db.product_reviews";
+    test:assertEquals(getCounterValue("cdc_events_failed_total", reviewsTable, "r"), 1);
+    test:assertEquals(getCounterValue("cdc_events_skipped_total", reviewsTable, "unknown"), 2);
+    test:assertEquals(getCounterValue("cdc_events_dispatched_total", reviewsTable, "r"), 0);
+
+    _ = check mysqlClient->execute(`DROP TABLE metrics_items`);
+}
+
+isolated map<string[]> keyedLaneUpdates = {};
+
+Service keyedLaneService =
+@ServiceConfig {tables: "store_db.keyed_lane_items"}
+isolated service object {
+    isolated remote function onUpdate(record {} before, record {} after) returns error? {
+        int id = check after["id"].ensureType();
+        string name = check after["name"].ensureType();
+        lock {
+            string[] updates = keyedLaneUpdates[id.toString()] ?: [];
+            updates.push(name);
+            keyedLaneUpdates[id.toString()] = updates;
+        }
+    }
+};
+
+isolated function getKeyedLaneUpdates() returns map<string[]> {
+    lock {
+        return keyedLaneUpdates.clone();
+    }
+}
+
+@test:Config {
+}
+function testPartitionedDispatchByKey() returns error? {
+    _ = check mysqlClient->execute(`DROP TABLE IF EXISTS keyed_lane_items`);
+    _ = check mysqlClient->execute(`CREATE TABLE keyed_lane_items (id INT PRIMARY KEY, name VARCHAR(50))`);
+    _ = check mysqlClient->execute(`INSERT INTO keyed_lane_items (id, name) VALUES (1, 'v0'), (2, 'v0')`);
+
+    MockListener keyedLaneListener = new ({
+        database: {
+            username,
+            password,
+            port,
+            includedDatabases: database,
+            includedTables: "store_db.keyed_lane_items"
+        },
+        engineName: "keyed-lane-connector",
+        internalSchemaStorage: {inMemory: true},
+        offsetStorage: {inMemory: true},
+        options: {
+            snapshotMode: NO_DATA,
+            dispatch: {lanes: 4, partitionBy: BY_KEY}
+        }
+    });
+    check keyedLaneListener.attach(keyedLaneService);
+    check keyedLaneListener.start();
+    runtime:sleep(5);
+
+    // The updates of a row are dispatched in one lane, while the updates of the other row may run alongside them
+    foreach int version in 1 ... 5 {
+        string name = string `v${version}`;
+        _ = check mysqlClient->execute(`UPDATE keyed_lane_items SET name = ${name} WHERE id = 1`);
+        _ = check mysqlClient->execute(`UPDATE keyed_lane_items SET name = ${name} WHERE id = 2`);
+    }
+    runtime:sleep(5);
+    check keyedLaneListener.gracefulStop();
+
+    string[] expectedUpdates = ["v1", "v2", "v3", "v4", "v5"];
+    map<string[]> updates = getKeyedLaneUpdates();
+    test:assertEquals(updates["1"], expectedUpdates, msg = "Updates of the first row are not observed in order.");
+    test:assertEquals(updates["2"], expectedUpdates, msg = "Updates of the second row are not observed in order.");
+
+    _ = check mysqlClient->execute(`DROP TABLE keyed_lane_items`);
+}
@@ -13,6 +13,7 @@
 // KIND, either express or implied. See the License for the
 // specific language governing permissions and limitations
 // under the License.
+import ballerina/jballerina.java;
 import ballerina/random;
 
 # Represents a Ballerina CDC MySQL Listener.
@@ -32,7 +33,10 @@ public isolated class MockListener {
                                        engineName: config.engineName,
                                        offsetStorage: config.offsetStorage,
                                        internalSchemaStorage: config.internalSchemaStorage,
-                                       options: config.options
+                                       options: config.options,
+                                       eventFormat: config.eventFormat,
+                                       includeSchema: config.includeSchema,
+                                       startPosition: config.startPosition
                                    }, configMap);
         populateDatabaseConfigurations({
                                            connectorClass: config.database.connectorClass,
@@ -89,8 +93,35 @@ public isolated class MockListener {
     public isolated function immediateStop() returns Error? {
         check externImmediateStop(self);
     }
+
+    # Triggers an incremental snapshot of the given tables.
+    #
+    # + tables - The fully-qualified names of the tables to take the snapshot of
+    # + return - An error if the snapshot cannot be triggered, or `()` if successful
+    public isolated function snapshot(string|string[] tables) returns Error? {
+        check externSnapshot(self, tables is string ? [tables] : tables);
+    }
+
+    # Returns the latencies of the stages through which the change events are processed.
+    #
+    # + return - The latencies of the stages, or an error if the listener is not started
+    public isolated function getLatencies() returns StageLatency[]|Error {
+        return externGetLatencies(self);
+    }
+
+    # Returns the engine properties, with the tables and the skipped operations derived from the attached services.
+    #
+    # + return - The engine properties which are passed to the engine when the listener is started
+    public isolated function getEngineProperties() returns map<string> {
+        return externGetEngineProperties(self, self.config);
+    }
 }
 
+isolated function externGetEngineProperties(Listener cdcListener, map<string> config) returns map<string> = @java:Method {
+    name: "getEngineProperties",
+    'class: "io.ballerina.lib.cdc.Listener"
+} external;
+
 const string MYSQL_DATABASE_SERVER_ID = "database.server.id";
 const string MYSQL_DATABASE_INCLUDE_LIST = "database.include.list";
 const string MYSQL_DATABASE_EXCLUDE_LIST = "database.exclude.list";
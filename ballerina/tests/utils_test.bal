@@ -21,6 +21,8 @@ function testGetDebeziumProperties() {
     // Expected properties map
     map<string> expectedProperties = {
         "name": "ballerina-cdc-connector",
+        "ballerina.event.format": "json",
+        "converter.schemas.enable": "false",
         "max.queue.size": "8192",
         "max.batch.size": "2048",
         "event.processing.failure.handling.mode": "warn",
@@ -36,6 +38,7 @@ function testGetDebeziumProperties() {
         "offset.storage": "org.apache.kafka.connect.storage.KafkaOffsetBackingStore",
         "offset.flush.interval.ms": "60000",
         "offset.flush.timeout.ms": "5000",
+        "ballerina.offset.commit.policy": "periodic",
         "bootstrap.servers": "",
         "offset.storage.topic": "bal_cdc_offsets",
         "offset.storage.partitions": "1",
@@ -105,3 +108,167 @@ function testGetDatabaseDebeziumProperties() {
     // Validate the returned properties
     test:assertEquals(actualProperties, expectedProperties, msg = "Debezium properties do not match the expected values.");
 }
+
+@test:Config {}
+function testGetDispatchProperties() {
+    map<string> actualProperties = {};
+    populateOptions({dispatch: {lanes: 4, partitionBy: BY_KEY}}, actualProperties);
+
+    test:assertEquals(actualProperties["ballerina.dispatch.lanes"], "4");
+    test:assertEquals(actualProperties["ballerina.dispatch.partition.by"], "key");
+}
+
+@test:Config {}
+function testGetAsynchronousDispatchProperties() {
+    map<string> actualProperties = {};
+    populateOptions({dispatch: {maxInFlight: 256}}, actualProperties);
+
+    test:assertEquals(actualProperties["ballerina.dispatch.max.in.flight"], "256");
+    test:assertFalse(actualProperties.hasKey("ballerina.dispatch.lanes"));
+}
+
+@test:Config {}
+function testGetPipelinedDispatchProperties() {
+    map<string> actualProperties = {};
+    populateOptions({dispatch: {decodeWorkers: 4}}, actualProperties);
+
+    test:assertEquals(actualProperties["ballerina.dispatch.decode.workers"], "4");
+    test:assertEquals(actualProperties["ballerina.dispatch.buffer.size"], "256");
+    test:assertFalse(actualProperties.hasKey("ballerina.dispatch.lanes"));
+}
+
+@test:Config {}
+function testGetSnapshotTuningProperties() {
+    map<string> actualProperties = {};
+    populateOptions({
+        snapshot: {
+            maxThreads: 4,
+            fetchSize: 10000,
+            chunkSize: 4096,
+            selectOverrides: {
+                "store_db.orders": "SELECT * FROM store_db.orders WHERE quantity > 0",
+                "store_db.products": "SELECT * FROM store_db.products WHERE price > 0"
+            }
+        }
+    }, actualProperties);
+
+    test:assertEquals(actualProperties["snapshot.max.threads"], "4");
+    test:assertEquals(actualProperties["snapshot.fetch.size"], "10000");
+    test:assertEquals(actualProperties["incremental.snapshot.chunk.size"], "4096");
+    test:assertEquals(actualProperties["snapshot.select.statement.overrides"], "store_db.orders,store_db.products");
+    test:assertEquals(actualProperties["snapshot.select.statement.overrides.store_db.orders"],
+            "SELECT * FROM store_db.orders WHERE quantity > 0");
+    test:assertEquals(actualProperties["snapshot.select.statement.overrides.store_db.products"],
+            "SELECT * FROM store_db.products WHERE price > 0");
+}
+
+@test:Config {}
+function testGetIncrementalSnapshotProperties() {
+    map<string> actualProperties = {};
+    populateOptions({snapshot: {chunkSize: 1024}}, actualProperties);
+
+    test:assertFalse(actualProperties.hasKey("signal.enabled.channels"));
+    test:assertFalse(actualProperties.hasKey("notification.enabled.channels"));
+    test:assertFalse(actualProperties.hasKey("read.only"));
+
+    actualProperties = {"signal.enabled.channels": "source,file", "notification.enabled.channels": "jmx"};
+    populateOptions({snapshot: {incremental: {readOnly: false, signalTable: "store_db.debezium_signal"}}},
+            actualProperties);
+
+    test:assertEquals(actualProperties["signal.enabled.channels"], "source,file,in-process");
+    test:assertEquals(actualProperties["notification.enabled.channels"], "jmx,log");
+    test:assertEquals(actualProperties["read.only"], "false");
+    test:assertEquals(actualProperties["signal.data.collection"], "store_db.debezium_signal");
+}
+
+@test:Config {}
+function testGetRecordProcessingProperties() {
+    map<string> actualProperties = {};
+    populateOptions({recordProcessing: {threads: 4, order: UNORDERED}}, actualProperties);
+
+    test:assertEquals(actualProperties["ballerina.engine.async"], "true");
+    test:assertEquals(actualProperties["record.processing.threads"], "4");
+    test:assertEquals(actualProperties["record.processing.order"], "UNORDERED");
+    test:assertEquals(actualProperties["record.processing.with.serial.consumer"], "false");
+}
+
+@test:Config {}
+function testGetOffsetCommitPolicyProperties() {
+    map<string> actualProperties = {};
+    populateOffsetStorageConfigurations({commitPolicy: EVERY_RECORD_COUNT, commitRecordCount: 500}, actualProperties);
+
+    test:assertEquals(actualProperties["ballerina.offset.commit.policy"], "record-count");
+    test:assertEquals(actualProperties["ballerina.offset.commit.record.count"], "500");
+}
+
+@test:Config {}
+function testGetMappedOffsetStorageProperties() {
+    map<string> actualProperties = {};
+    populateOffsetStorageConfigurations({logFileName: "tmp/offsets.log", commitPolicy: EVERY_BATCH}, actualProperties);
+
+    test:assertEquals(actualProperties["offset.storage"], "io.ballerina.lib.cdc.storage.MappedOffsetBackingStore");
+    test:assertEquals(actualProperties["offset.storage.file.filename"], "tmp/offsets.log");
+    test:assertEquals(actualProperties["offset.storage.log.size"], "16777216");
+    test:assertEquals(actualProperties["ballerina.offset.commit.policy"], "batch");
+}
+
+@test:Config {}
+function testGetCompactedSchemaHistoryProperties() {
+    map<string> actualProperties = {};
+    populateSchemaHistoryConfigurations({historyFileName: "tmp/dbhistory.log", retainedRecords: 10}, actualProperties);
+
+    test:assertEquals(actualProperties["schema.history.internal"], "io.ballerina.lib.cdc.storage.CompactedFileSchemaHistory");
+    test:assertEquals(actualProperties["schema.history.internal.file.filename"], "tmp/dbhistory.log");
+    test:assertEquals(actualProperties["schema.history.internal.compaction.threshold"], "1000");
+    test:assertEquals(actualProperties["schema.history.internal.compaction.retained.records"], "10");
+}
+
+@test:Config {}
+function testGetInMemoryStorageProperties() {
+    map<string> actualProperties = {};
+    populateOffsetStorageConfigurations({inMemory: true}, actualProperties);
+    populateSchemaHistoryConfigurations({inMemory: true}, actualProperties);
+
+    test:assertEquals(actualProperties["offset.storage"], "org.apache.kafka.connect.storage.MemoryOffsetBackingStore");
+    test:assertEquals(actualProperties["schema.history.internal"], "io.debezium.relational.history.MemorySchemaHistory");
+    test:assertFalse(actualProperties.hasKey("offset.storage.file.filename"));
+    test:assertFalse(actualProperties.hasKey("schema.history.internal.file.filename"));
+}
+
+@test:Config {}
+function testGetJdbcStorageProperties() {
+    map<string> actualProperties = {};
+    populateOffsetStorageConfigurations({url: "jdbc:h2:./tmp/cdc", user: "sa", commitPolicy: EVERY_BATCH}, actualProperties);
+    populateSchemaHistoryConfigurations({url: "jdbc:h2:./tmp/cdc", tableName: "schema_history"}, actualProperties);
+
+    test:assertEquals(actualProperties["offset.storage"], "io.ballerina.lib.cdc.storage.JdbcOffsetBackingStore");
+    test:assertEquals(actualProperties["offset.storage.jdbc.connection.url"], "jdbc:h2:./tmp/cdc");
+    test:assertEquals(actualProperties["offset.storage.jdbc.connection.user"], "sa");
+    test:assertFalse(actualProperties.hasKey("offset.storage.jdbc.connection.password"));
+    test:assertEquals(actualProperties["offset.storage.jdbc.table.name"], "bal_cdc_offsets");
+    test:assertEquals(actualProperties["schema.history.internal"], "io.ballerina.lib.cdc.storage.JdbcSchemaHistory");
+    test:assertEquals(actualProperties["schema.history.internal.jdbc.connection.url"], "jdbc:h2:./tmp/cdc");
+    test:assertEquals(actualProperties["schema.history.internal.jdbc.table.name"], "schema_history");
+}
+
+@test:Config {}
+function testGetStartPositionProperties() {
+    ListenerConfiguration config = {
+        offsetStorage: {fileName: "tmp/offsets.dat"},
+        startPosition: {offset: {file: "mysql-bin.000003", pos: 154}}
+    };
+    map<string> actualProperties = {};
+    populateDebeziumProperties(config, actualProperties);
+
+    test:assertEquals(actualProperties["ballerina.start.position.partition"], "{\"server\":\"bal_cdc_schema_history\"}");
+    test:assertEquals(actualProperties["ballerina.start.position.offset"], "{\"file\":\"mysql-bin.000003\", \"pos\":154}");
+    test:assertEquals(actualProperties["snapshot.mode"], "when_needed");
+}
+
+@test:Config {}
+function testGetMaxLingerProperties() {
+    map<string> actualProperties = {};
+    populateOptions({maxLinger: 1.5}, actualProperties);
+
+    test:assertEquals(actualProperties["poll.interval.ms"], "1500");
+}
@@ -69,6 +69,17 @@ public enum DecimalHandlingMode {
     STRING = "string"
 }
 
+# Represents the formats in which the change events are emitted by the CDC engine.
+#
+# + JSON - Serialize the change events into JSON before they are bound to the service method parameters
+# + JSON_BYTES - Serialize the change events into UTF-8 encoded JSON bytes, which are parsed without decoding the whole event into a string
+# + CONNECT - Bind the Kafka Connect change events directly to the service method parameters, without serializing them into JSON
+public enum EventFormat {
+    JSON = "json",
+    JSON_BYTES = "json-bytes",
+    CONNECT = "connect"
+}
+
 # Represents a secure database connection configuration.
 #
 # + sslMode - The SSL mode to use for the connection
@@ -99,6 +110,52 @@ public type FileInternalSchemaStorage record {|
     string fileName = "tmp/dbhistory.dat";
 |};
 
+# Represents the compacted file-based schema history configuration. Once the number of schema changes recorded
+# since the last compaction reaches the compaction threshold, all but the most recent schema changes are replaced by a
+# snapshot of the tables, so that the history does not grow forever and is recovered quickly on start.
+#
+# + className - The class name of the compacted file schema history implementation to use
+# + historyFileName - The name of the file to store schema history
+# + compactionThreshold - The number of schema changes recorded since the last compaction, which triggers a compaction
+# + retainedRecords - The number of the most recent schema changes, which are kept as they are on a compaction
+public type CompactedInternalSchemaStorage record {|
+    *SchemaHistoryInternal;
+    string className = "io.ballerina.lib.cdc.storage.CompactedFileSchemaHistory";
+    string historyFileName;
+    int compactionThreshold = 1000;
+    int retainedRecords = 100;
+|};
+
+# Represents the JDBC-based schema history configuration. The schema changes are stored in a relational database
+# table, which is created if it does not exist. The schema changes are stored in the large text type of the database,
+# such as `LONGTEXT` for MySQL, `NVARCHAR(MAX)` for SQL Server and `CLOB` for Oracle, as the schema change of a wide
+# table can exceed 64 KB. The JDBC driver of the database should be added as a dependency.
+#
+# + className - The class name of the JDBC schema history implementation to use
+# + url - The JDBC URL of the database to store schema history
+# + user - The user of the database
+# + password - The password of the database user
+# + tableName - The name of the table to store schema history
+public type JdbcSchemaStorage record {|
+    *SchemaHistoryInternal;
+    string className = "io.ballerina.lib.cdc.storage.JdbcSchemaHistory";
+    string url;
+    string user?;
+    string password?;
+    string tableName = "bal_cdc_schema_history";
+|};
+
+# Represents the in-memory schema history configuration. The schema history is not persisted, so it is lost when the
+# listener stops, which suits ephemeral listeners, such as the ones used in tests.
+#
+# + className - The class name of the in-memory schema history implementation to use
+# + inMemory - Indicates that the schema history is kept in memory
+public type InMemorySchemaStorage record {|
+    *SchemaHistoryInternal;
+    string className = "io.debezium.relational.history.MemorySchemaHistory";
+    true inMemory;
+|};
+
 # Represents the Kafka-based schema history configuration.
 #
 # + className - The class name of the Kafka schema history implementation to use
@@ -115,11 +172,26 @@ public type KafkaInternalSchemaStorage record {|
 #
 # + flushInterval - The interval in seconds to flush offsets
 # + flushTimeout - The timeout in seconds for flushing offsets
+# + commitPolicy - When the offsets of the processed events are committed. The events processed after the last commit are replayed when the listener restarts
+# + commitRecordCount - The number of processed events after which the offsets are committed, when the `EVERY_RECORD_COUNT` commit policy is used
 type OffsetStorage record {|
     decimal flushInterval = 60;
     decimal flushTimeout = 5;
+    OffsetCommitPolicy commitPolicy = PERIODIC;
+    int commitRecordCount = 1000;
 |};
 
+# Represents the policies for committing the offsets of the processed events.
+#
+# + PERIODIC - Commit the offsets once every `flushInterval`
+# + EVERY_BATCH - Commit the offsets once every batch of events is processed
+# + EVERY_RECORD_COUNT - Commit the offsets once every `commitRecordCount` events are processed
+public enum OffsetCommitPolicy {
+    PERIODIC = "periodic",
+    EVERY_BATCH = "batch",
+    EVERY_RECORD_COUNT = "record-count"
+}
+
 # Represents the file-based offset storage configuration.
 #
 # + className - The class name of the file offset storage implementation to use
@@ -130,6 +202,51 @@ public type FileOffsetStorage record {|
     string fileName = "tmp/debezium-offsets.dat";
 |};
 
+# Represents the memory-mapped offset storage configuration. The committed offsets are appended to a memory-mapped
+# log file, instead of rewriting all the offsets on every flush, which makes frequent offset commits cheap. The log
+# is compacted once it fills half of its size.
+#
+# + className - The class name of the memory-mapped offset storage implementation to use
+# + logFileName - The name of the log file to store offsets
+# + logSize - The size of the log file in bytes, which is mapped into memory
+public type MappedOffsetStorage record {|
+    *OffsetStorage;
+    string className = "io.ballerina.lib.cdc.storage.MappedOffsetBackingStore";
+    string logFileName;
+    int logSize = 16777216;
+|};
+
+# Represents the JDBC-based offset storage configuration. The offsets are stored in a relational database table,
+# which is created if it does not exist. The offsets of a flush are written in a single transaction. The offsets are
+# stored in the large text type of the database, as the GTID set in the offset of a long-lived MySQL server with
+# several sources can exceed several kilobytes. A table created by an earlier version with a `VARCHAR(4096)` offset
+# column should be altered to use such a type. The JDBC driver of the database should be added as a dependency.
+#
+# + className - The class name of the JDBC offset storage implementation to use
+# + url - The JDBC URL of the database to store offsets
+# + user - The user of the database
+# + password - The password of the database user
+# + tableName - The name of the table to store offsets
+public type JdbcOffsetStorage record {|
+    *OffsetStorage;
+    string className = "io.ballerina.lib.cdc.storage.JdbcOffsetBackingStore";
+    string url;
+    string user?;
+    string password?;
+    string tableName = "bal_cdc_offsets";
+|};
+
+# Represents the in-memory offset storage configuration. The offsets are not persisted, so the listener starts from
+# the beginning every time it is started, which suits ephemeral listeners, such as the ones used in tests.
+#
+# + className - The class name of the in-memory offset storage implementation to use
+# + inMemory - Indicates that the offsets are kept in memory
+public type InMemoryOffsetStorage record {|
+    *OffsetStorage;
+    string className = "org.apache.kafka.connect.storage.MemoryOffsetBackingStore";
+    true inMemory;
+|};
+
 # Represents the Kafka-based offset storage configuration.
 #
 # + className - The class name of the Kafka offset storage implementation to use
@@ -179,12 +296,16 @@ public type DatabaseConnection record {|
 #
 # + snapshotMode - The mode for capturing snapshots
 # + eventProcessingFailureHandlingMode - The mode for handling event processing failures
-# + skippedOperations - The list of operations to skip
+# + skippedOperations - The list of operations to skip, in addition to the operations which are not implemented by any of the attached services
 # + skipMessagesWithoutChange - Whether to skip messages without changes
 # + decimalHandlingMode - The mode for handling decimal values from the database
 # + maxQueueSize - The maximum size of the queue for events
 # + maxBatchSize - The maximum size of the batch for events
 # + queryTimeout - Specifies the time, in seconds, that the connector waits for a query to complete. Set the value to 0 (zero) to remove the timeout
+# + maxLinger - The time, in seconds, that the connector waits before it polls the database again when no new change events are available. A batch is delivered as soon as change events are available, so this does not make the batches larger
+# + dispatch - The configuration for dispatching the change events to the attached services concurrently, either in partitioned lanes, asynchronously or with a pipeline of decode workers. The events are dispatched one after the other if this is not set
+# + recordProcessing - The configuration for processing the change events on multiple threads with the asynchronous Debezium engine. The change events are processed in batches by a single engine task if this is not set
+# + snapshot - The configuration for tuning the snapshots of the captured tables
 public type Options record {|
     SnapshotMode snapshotMode = INITIAL;
     EventProcessingFailureHandlingMode eventProcessingFailureHandlingMode = WARN;
@@ -194,6 +315,125 @@ public type Options record {|
     int maxQueueSize = 8192;
     int maxBatchSize = 2048;
     decimal queryTimeout = 60;
+    decimal maxLinger?;
+    PartitionedDispatch|AsynchronousDispatch|PipelinedDispatch dispatch?;
+    RecordProcessing recordProcessing?;
+    SnapshotTuning snapshot?;
+|};
+
+# Represents a change event delivered to the `onBatch` remote method of a service.
+# The `before` and `after` rows can be bound to specific record types by including this type in a record type.
+#
+# + op - The operation of the change, which is one of `r` (read), `c` (create), `u` (update), `d` (delete) or `t` (truncate)
+# + tableName - The name of the table in which the change occurred
+# + before - The row before the change. This is only present for update and delete events
+# + after - The row after the change. This is only present for read, create and update events
+public type ChangeEvent record {|
+    string op;
+    string tableName;
+    record {}? before = ();
+    record {}? after = ();
+|};
+
+# Represents the configuration for dispatching change events to the attached services concurrently in lanes.
+# Concurrent dispatch is only allowed when the attached services and all of their remote methods are isolated.
+#
+# + lanes - The number of lanes which dispatch the events of a batch concurrently. The events of a lane are dispatched in the order in which they are captured
+# + partitionBy - How the events are distributed among the lanes
+public type PartitionedDispatch record {|
+    int lanes;
+    PartitionStrategy partitionBy = BY_TABLE;
+|};
+
+# Represents the configuration for dispatching change events to the attached services asynchronously, without
+# waiting for the previous events to be processed. The offsets are only committed up to the last event before
+# which all the events are processed, so that no event is lost on a restart.
+# Asynchronous dispatch is only allowed when the attached services and all of their remote methods are isolated.
+#
+# + maxInFlight - The maximum number of events which are being processed at a time
+public type AsynchronousDispatch record {|
+    int maxInFlight;
+|};
+
+# Represents the configuration for decoding change events in parallel with their dispatch. A pool of decode workers
+# decodes the events of a batch and binds them to the parameters of the service methods, while the service methods
+# are invoked one after the other, in the order in which the events are captured. As the service methods are not
+# invoked concurrently, the attached services are not required to be isolated.
+#
+# + decodeWorkers - The number of workers which decode the events of a batch in parallel
+# + bufferSize - The maximum number of decoded events which are waiting to be dispatched
+public type PipelinedDispatch record {|
+    int decodeWorkers;
+    int bufferSize = 256;
+|};
+
+# Represents how change events are distributed among the dispatch lanes.
+#
+# + BY_TABLE - The events of a table are dispatched in order by the same lane
+# + BY_KEY - The events of a row, identified by its key, are dispatched in order by the same lane. The events of different rows of a table may be dispatched concurrently
+public enum PartitionStrategy {
+    BY_TABLE = "table",
+    BY_KEY = "key"
+}
+
+# Represents the configuration for processing change events on multiple threads with the asynchronous Debezium engine.
+# The change events are delivered to the attached services one at a time, instead of in batches, so the `dispatch`
+# option, the `onBatch` method and the compaction of services cannot be used along with it. Unless the change events
+# are delivered by a serial consumer or a single thread, the attached services and all of their remote methods must be
+# isolated.
+#
+# + threads - The number of threads which process the change events. Defaults to the number of available processors
+# + order - The order in which the processed change events are delivered to the attached services
+# + serialConsumer - Whether the change events are delivered to the attached services one after the other, while only their conversion is done on multiple threads
+public type RecordProcessing record {|
+    int threads?;
+    RecordProcessingOrder order = ORDERED;
+    boolean serialConsumer = false;
+|};
+
+# Represents the configuration for tuning the snapshots of the captured tables. The connector defaults are used for the
+# values which are not set.
+#
+# + maxThreads - The number of threads which take the initial snapshot of the tables in parallel, one table per thread
+# + fetchSize - The number of rows fetched from the database at a time while the snapshot of a table is taken
+# + selectOverrides - The `SELECT` statements used to take the snapshot of the given tables instead of reading all of their rows, keyed by the fully-qualified table name
+# + chunkSize - The number of rows read in each chunk of an incremental snapshot
+# + incremental - The configuration of the incremental snapshots triggered through the `snapshot` method of the listener. Incremental snapshots cannot be triggered if this is not set
+public type SnapshotTuning record {|
+    int maxThreads?;
+    int fetchSize?;
+    map<string> selectOverrides?;
+    int chunkSize?;
+    IncrementalSnapshot incremental?;
+|};
+
+# Represents the configuration of the incremental snapshots, which are taken in chunks while the changes are streamed.
+#
+# + readOnly - Whether the snapshot chunks are delimited without writing to the database, which is supported by the MySQL connector when GTIDs are enabled on the database. No signaling table is needed in this mode
+# + signalTable - The fully-qualified name of the signaling table in which the connector writes the watermarks of the snapshot chunks when the snapshot is not read-only
+public type IncrementalSnapshot record {|
+    boolean readOnly = true;
+    string signalTable?;
+|};
+
+# Represents the order in which the change events processed on multiple threads are delivered.
+#
+# + ORDERED - The change events are delivered in the order in which they are captured
+# + UNORDERED - The change events are delivered as soon as they are processed, which gives a higher throughput
+public enum RecordProcessingOrder {
+    ORDERED,
+    UNORDERED
+}
+
+# Represents the source position from which the listener streams the changes, such as a binlog position, a GTID set or
+# an LSN. The position is written to the offset storage before the listener starts, only if the offset storage has no
+# offset for the source partition, so that a restarted listener resumes from its committed offsets instead.
+#
+# + partition - The source partition of the connector. Defaults to `{"server": <topic prefix>}`, which is the partition of the MySQL and PostgreSQL connectors
+# + offset - The source offset, such as `{"file": "mysql-bin.000003", "pos": 154}` or `{"gtids": "<GTID set>"}` for MySQL, or `{"lsn": 33842704}` for PostgreSQL
+public type StartPosition record {|
+    map<json> partition?;
+    map<json> offset;
 |};
 
 # Represents the base configuration for the CDC engine.
@@ -202,9 +442,57 @@ public type Options record {|
 # + internalSchemaStorage - The internal schema history configuration
 # + offsetStorage - The offset storage configuration
 # + options - The additional options for the CDC engine
+# + eventFormat - The format in which the change events are emitted by the CDC engine
+# + includeSchema - Whether the JSON change events carry the schema of the payload. Disabling it reduces the size of the events buffered and processed by the listener
+# + startPosition - The source position from which the changes are streamed, instead of taking a snapshot of the data. The snapshot mode is set to `WHEN_NEEDED` if this is set, so that only the schema of the tables is read when the schema history is missing. The Kafka and in-memory offset storages cannot be used with a start position
 public type ListenerConfiguration record {|
     string engineName = "ballerina-cdc-connector";
-    FileInternalSchemaStorage|KafkaInternalSchemaStorage internalSchemaStorage = {};
-    FileOffsetStorage|KafkaOffsetStorage offsetStorage = {};
+    FileInternalSchemaStorage|KafkaInternalSchemaStorage|CompactedInternalSchemaStorage|InMemorySchemaStorage|JdbcSchemaStorage internalSchemaStorage = {};
+    FileOffsetStorage|KafkaOffsetStorage|MappedOffsetStorage|InMemoryOffsetStorage|JdbcOffsetStorage offsetStorage = {};
     Options options = {};
+    EventFormat eventFormat = JSON;
+    boolean includeSchema = false;
+    StartPosition startPosition?;
+|};
+
+# Represents the stages through which a change event is processed.
+#
+# + SOURCE - From the commit of the change in the source database, to the processing of the change by the connector
+# + QUEUE - From the processing of the change by the connector, to the receipt of the change event by the listener
+# + WAIT - The time which the change event waits in the listener, from its receipt to the invocation of the service method, other than the time taken to decode it. This includes waiting for the earlier events of the batch to be processed
+# + DECODE - From the start of the decoding of the change event, to the binding of the change event to the service method
+# + HANDLER - From the invocation of the service method, to the return of the service method
+# + END_TO_END - From the commit of the change in the source database, to the return of the service method
+public enum LatencyStage {
+    SOURCE = "source",
+    QUEUE = "queue",
+    WAIT = "wait",
+    DECODE = "decode",
+    HANDLER = "handler",
+    END_TO_END = "end_to_end"
+}
+
+# Represents the latencies of a stage, recorded for the change events of a table processed by a service method. The
+# latencies are in milliseconds, and the percentiles are accurate to within about 3%. The `SOURCE`, `QUEUE` and
+# `END_TO_END` stages are measured against the clock of the database, so they are affected by clock skew.
+#
+# + tableName - The fully-qualified name of the table, such as `store_db.orders`
+# + method - The name of the service method, such as `onCreate` or `onBatch`
+# + stage - The stage of the processing
+# + count - The number of change events recorded for the stage
+# + mean - The mean latency
+# + p50 - The median latency
+# + p90 - The 90th percentile latency
+# + p99 - The 99th percentile latency
+# + max - The highest latency
+public type StageLatency record {|
+    string tableName;
+    string method;
+    LatencyStage stage;
+    int count;
+    decimal mean;
+    decimal p50;
+    decimal p90;
+    decimal p99;
+    decimal max;
 |};
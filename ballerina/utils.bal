@@ -29,6 +29,14 @@ const string DATABASE_PORT = "database.port";
 const string DATABASE_USER = "database.user";
 const string DATABASE_PASSWORD = "database.password";
 const string DATABASE_QUERY_TIMEOUTS_MS = "database.query.timeout.ms";
+const string POLL_INTERVAL_MS = "poll.interval.ms";
+const string RECORD_PROCESSING_THREADS = "record.processing.threads";
+const string RECORD_PROCESSING_ORDER = "record.processing.order";
+const string RECORD_PROCESSING_WITH_SERIAL_CONSUMER = "record.processing.with.serial.consumer";
+const string SNAPSHOT_MAX_THREADS = "snapshot.max.threads";
+const string SNAPSHOT_FETCH_SIZE = "snapshot.fetch.size";
+const string SNAPSHOT_SELECT_STATEMENT_OVERRIDES = "snapshot.select.statement.overrides";
+const string INCREMENTAL_SNAPSHOT_CHUNK_SIZE = "incremental.snapshot.chunk.size";
 const string DECIMAL_HANDLING_MODE = "decimal.handling.mode";
 const string CONNECT_TIMEOUT_MS = "connect.timeout.ms";
 const string TABLE_INCLUDE_LIST = "table.include.list";
@@ -45,16 +53,48 @@ const string TOPIC_PREFIX = "topic.prefix";
 const string SCHEMA_HISTORY_INTERNAL_KAFKA_BOOTSTRAP_SERVERS = "schema.history.internal.kafka.bootstrap.servers";
 const string SCHEMA_HISTORY_INTERNAL_KAFKA_TOPIC = "schema.history.internal.kafka.topic";
 const string SCHEMA_HISTORY_INTERNAL_FILE_FILENAME = "schema.history.internal.file.filename";
+const string SCHEMA_HISTORY_INTERNAL_COMPACTION_THRESHOLD = "schema.history.internal.compaction.threshold";
+const string SCHEMA_HISTORY_INTERNAL_COMPACTION_RETAINED_RECORDS = "schema.history.internal.compaction.retained.records";
+const string SCHEMA_HISTORY_INTERNAL_JDBC_URL = "schema.history.internal.jdbc.connection.url";
+const string SCHEMA_HISTORY_INTERNAL_JDBC_USER = "schema.history.internal.jdbc.connection.user";
+const string SCHEMA_HISTORY_INTERNAL_JDBC_PASSWORD = "schema.history.internal.jdbc.connection.password";
+const string SCHEMA_HISTORY_INTERNAL_JDBC_TABLE_NAME = "schema.history.internal.jdbc.table.name";
 const string OFFSET_STORAGE = "offset.storage";
 const string OFFSET_FLUSH_INTERVAL_MS = "offset.flush.interval.ms";
 const string OFFSET_FLUSH_TIMEOUT_MS = "offset.flush.timeout.ms";
 const string OFFSET_STORAGE_FILE_FILENAME = "offset.storage.file.filename";
+const string OFFSET_STORAGE_LOG_SIZE = "offset.storage.log.size";
+const string OFFSET_STORAGE_JDBC_URL = "offset.storage.jdbc.connection.url";
+const string OFFSET_STORAGE_JDBC_USER = "offset.storage.jdbc.connection.user";
+const string OFFSET_STORAGE_JDBC_PASSWORD = "offset.storage.jdbc.connection.password";
+const string OFFSET_STORAGE_JDBC_TABLE_NAME = "offset.storage.jdbc.table.name";
 const string OFFSET_BOOTSTRAP_SERVERS = "bootstrap.servers";
 const string OFFSET_STORAGE_TOPIC = "offset.storage.topic";
 const string OFFSET_STORAGE_PARTITIONS = "offset.storage.partitions";
 const string OFFSET_STORAGE_REPLICATION_FACTOR = "offset.storage.replication.factor";
 const string INCLUDE_SCHEMA_CHANGES = "include.schema.changes";
 const string TOMBSTONES_ON_DELETE = "tombstones.on.delete";
+const string CONVERTER_SCHEMAS_ENABLE = "converter.schemas.enable";
+const string SIGNAL_ENABLED_CHANNELS = "signal.enabled.channels";
+const string NOTIFICATION_ENABLED_CHANNELS = "notification.enabled.channels";
+const string SIGNAL_DATA_COLLECTION = "signal.data.collection";
+const string READ_ONLY = "read.only";
+const string SOURCE_SIGNAL_CHANNEL = "source";
+const string IN_PROCESS_SIGNAL_CHANNEL = "in-process";
+const string LOG_NOTIFICATION_CHANNEL = "log";
+
+// Listener properties, which are consumed by the listener instead of being passed to the Debezium engine
+const string EVENT_FORMAT = "ballerina.event.format";
+const string DISPATCH_LANES = "ballerina.dispatch.lanes";
+const string DISPATCH_PARTITION_BY = "ballerina.dispatch.partition.by";
+const string DISPATCH_MAX_IN_FLIGHT = "ballerina.dispatch.max.in.flight";
+const string DISPATCH_DECODE_WORKERS = "ballerina.dispatch.decode.workers";
+const string DISPATCH_BUFFER_SIZE = "ballerina.dispatch.buffer.size";
+const string OFFSET_COMMIT_POLICY = "ballerina.offset.commit.policy";
+const string OFFSET_COMMIT_RECORD_COUNT = "ballerina.offset.commit.record.count";
+const string ASYNC_ENGINE = "ballerina.engine.async";
+const string START_POSITION_PARTITION = "ballerina.start.position.partition";
+const string START_POSITION_OFFSET = "ballerina.start.position.offset";
 
 # Processes the given configuration and populates the map with the necessary debezium properties.
 #
@@ -63,6 +103,8 @@ const string TOMBSTONES_ON_DELETE = "tombstones.on.delete";
 public isolated function populateDebeziumProperties(ListenerConfiguration config, map<string> configMap) {
 
     configMap[NAME] = config.engineName;
+    configMap[EVENT_FORMAT] = config.eventFormat;
+    configMap[CONVERTER_SCHEMAS_ENABLE] = config.includeSchema.toString();
 
     populateSchemaHistoryConfigurations(config.internalSchemaStorage, configMap);
 
@@ -70,12 +112,27 @@ public isolated function populateDebeziumProperties(ListenerConfiguration config
 
     populateOptions(config.options, configMap);
 
+    StartPosition? startPosition = config.startPosition;
+    if startPosition !is () {
+        populateStartPositionConfigurations(startPosition, config.internalSchemaStorage.topicPrefix, configMap);
+    }
+
     // The following values cannot be overridden by the user
     configMap[TOMBSTONES_ON_DELETE] = "false";
     configMap[INCLUDE_SCHEMA_CHANGES] = "false";
 }
 
-isolated function populateSchemaHistoryConfigurations(FileInternalSchemaStorage|KafkaInternalSchemaStorage schemaHistoryInternal, map<string> configMap) {
+isolated function populateStartPositionConfigurations(StartPosition startPosition, string topicPrefix,
+        map<string> configMap) {
+    map<json> partition = startPosition.partition ?: {"server": topicPrefix};
+    configMap[START_POSITION_PARTITION] = partition.toJsonString();
+    configMap[START_POSITION_OFFSET] = startPosition.offset.toJsonString();
+    // The data is not read from the tables, as an offset exists for the partition. Only the schema of the tables is
+    // read when the schema history is missing, before the changes are streamed from the given position
+    configMap[SNAPSHOT_MODE] = WHEN_NEEDED;
+}
+
+isolated function populateSchemaHistoryConfigurations(FileInternalSchemaStorage|KafkaInternalSchemaStorage|CompactedInternalSchemaStorage|InMemorySchemaStorage|JdbcSchemaStorage schemaHistoryInternal, map<string> configMap) {
     configMap[SCHEMA_HISTORY_INTERNAL] = schemaHistoryInternal.className;
     configMap[TOPIC_PREFIX] = schemaHistoryInternal.topicPrefix;
 
@@ -83,19 +140,52 @@ isolated function populateSchemaHistoryConfigurations(FileInternalSchemaStorage|
         string|string[] bootstrapServers = schemaHistoryInternal.bootstrapServers;
         configMap[SCHEMA_HISTORY_INTERNAL_KAFKA_BOOTSTRAP_SERVERS] = bootstrapServers is string ? bootstrapServers : string:'join(",", ...bootstrapServers);
         configMap[SCHEMA_HISTORY_INTERNAL_KAFKA_TOPIC] = schemaHistoryInternal.topicName;
-    } else {
+    } else if schemaHistoryInternal is CompactedInternalSchemaStorage {
+        configMap[SCHEMA_HISTORY_INTERNAL_FILE_FILENAME] = schemaHistoryInternal.historyFileName;
+        configMap[SCHEMA_HISTORY_INTERNAL_COMPACTION_THRESHOLD] = schemaHistoryInternal.compactionThreshold.toString();
+        configMap[SCHEMA_HISTORY_INTERNAL_COMPACTION_RETAINED_RECORDS] = schemaHistoryInternal.retainedRecords.toString();
+    } else if schemaHistoryInternal is FileInternalSchemaStorage {
         configMap[SCHEMA_HISTORY_INTERNAL_FILE_FILENAME] = schemaHistoryInternal.fileName;
+    } else if schemaHistoryInternal is JdbcSchemaStorage {
+        configMap[SCHEMA_HISTORY_INTERNAL_JDBC_URL] = schemaHistoryInternal.url;
+        configMap[SCHEMA_HISTORY_INTERNAL_JDBC_TABLE_NAME] = schemaHistoryInternal.tableName;
+        string? user = schemaHistoryInternal.user;
+        if user is string {
+            configMap[SCHEMA_HISTORY_INTERNAL_JDBC_USER] = user;
+        }
+        string? password = schemaHistoryInternal.password;
+        if password is string {
+            configMap[SCHEMA_HISTORY_INTERNAL_JDBC_PASSWORD] = password;
+        }
     }
 }
 
-isolated function populateOffsetStorageConfigurations(FileOffsetStorage|KafkaOffsetStorage offsetStorage, map<string> configMap) {
+isolated function populateOffsetStorageConfigurations(FileOffsetStorage|KafkaOffsetStorage|MappedOffsetStorage|InMemoryOffsetStorage|JdbcOffsetStorage offsetStorage, map<string> configMap) {
     configMap[OFFSET_STORAGE] = offsetStorage.className;
     configMap[OFFSET_FLUSH_INTERVAL_MS] = getMillisecondValueOf(offsetStorage.flushInterval);
     configMap[OFFSET_FLUSH_TIMEOUT_MS] = getMillisecondValueOf(offsetStorage.flushTimeout);
+    configMap[OFFSET_COMMIT_POLICY] = offsetStorage.commitPolicy;
+    if offsetStorage.commitPolicy == EVERY_RECORD_COUNT {
+        configMap[OFFSET_COMMIT_RECORD_COUNT] = offsetStorage.commitRecordCount.toString();
+    }
 
     if offsetStorage is FileOffsetStorage {
         configMap[OFFSET_STORAGE_FILE_FILENAME] = offsetStorage.fileName;
-    } else {
+    } else if offsetStorage is MappedOffsetStorage {
+        configMap[OFFSET_STORAGE_FILE_FILENAME] = offsetStorage.logFileName;
+        configMap[OFFSET_STORAGE_LOG_SIZE] = offsetStorage.logSize.toString();
+    } else if offsetStorage is JdbcOffsetStorage {
+        configMap[OFFSET_STORAGE_JDBC_URL] = offsetStorage.url;
+        configMap[OFFSET_STORAGE_JDBC_TABLE_NAME] = offsetStorage.tableName;
+        string? user = offsetStorage.user;
+        if user is string {
+            configMap[OFFSET_STORAGE_JDBC_USER] = user;
+        }
+        string? password = offsetStorage.password;
+        if password is string {
+            configMap[OFFSET_STORAGE_JDBC_PASSWORD] = password;
+        }
+    } else if offsetStorage is KafkaOffsetStorage {
         string|string[] offsetStorageBootstrapServers = offsetStorage.bootstrapServers;
         configMap[OFFSET_BOOTSTRAP_SERVERS] = offsetStorageBootstrapServers is string ? offsetStorageBootstrapServers : string:'join(",", ...offsetStorageBootstrapServers);
         configMap[OFFSET_STORAGE_TOPIC] = offsetStorage.topicName;
@@ -113,6 +203,92 @@ isolated function populateOptions(Options options, map<string> configMap) {
     configMap[SKIP_MESSAGES_WITHOUT_CHANGE] = options.skipMessagesWithoutChange.toString();
     configMap[DECIMAL_HANDLING_MODE] = options.decimalHandlingMode;
     configMap[DATABASE_QUERY_TIMEOUTS_MS] = getMillisecondValueOf(options.queryTimeout);
+
+    // The linger is the idle poll interval of the engine, the events which are available are delivered right away
+    decimal? maxLinger = options.maxLinger;
+    if maxLinger !is () {
+        configMap[POLL_INTERVAL_MS] = getMillisecondValueOf(maxLinger);
+    }
+
+    PartitionedDispatch|AsynchronousDispatch|PipelinedDispatch? dispatch = options.dispatch;
+    if dispatch is PartitionedDispatch {
+        configMap[DISPATCH_LANES] = dispatch.lanes.toString();
+        configMap[DISPATCH_PARTITION_BY] = dispatch.partitionBy;
+    } else if dispatch is AsynchronousDispatch {
+        configMap[DISPATCH_MAX_IN_FLIGHT] = dispatch.maxInFlight.toString();
+    } else if dispatch is PipelinedDispatch {
+        configMap[DISPATCH_DECODE_WORKERS] = dispatch.decodeWorkers.toString();
+        configMap[DISPATCH_BUFFER_SIZE] = dispatch.bufferSize.toString();
+    }
+
+    RecordProcessing? recordProcessing = options.recordProcessing;
+    if recordProcessing !is () {
+        configMap[ASYNC_ENGINE] = true.toString();
+        int? threads = recordProcessing.threads;
+        if threads !is () {
+            configMap[RECORD_PROCESSING_THREADS] = threads.toString();
+        }
+        configMap[RECORD_PROCESSING_ORDER] = recordProcessing.order;
+        configMap[RECORD_PROCESSING_WITH_SERIAL_CONSUMER] = recordProcessing.serialConsumer.toString();
+    }
+
+    SnapshotTuning? snapshot = options.snapshot;
+    if snapshot !is () {
+        populateSnapshotConfigurations(snapshot, configMap);
+    }
+}
+
+isolated function populateSnapshotConfigurations(SnapshotTuning snapshot, map<string> configMap) {
+    int? maxThreads = snapshot.maxThreads;
+    if maxThreads !is () {
+        configMap[SNAPSHOT_MAX_THREADS] = maxThreads.toString();
+    }
+    int? fetchSize = snapshot.fetchSize;
+    if fetchSize !is () {
+        configMap[SNAPSHOT_FETCH_SIZE] = fetchSize.toString();
+    }
+    int? chunkSize = snapshot.chunkSize;
+    if chunkSize !is () {
+        configMap[INCREMENTAL_SNAPSHOT_CHUNK_SIZE] = chunkSize.toString();
+    }
+
+    map<string>? selectOverrides = snapshot.selectOverrides;
+    if selectOverrides !is () && selectOverrides.length() > 0 {
+        configMap[SNAPSHOT_SELECT_STATEMENT_OVERRIDES] = string:'join(",", ...selectOverrides.keys());
+        foreach [string, string] [tableName, statement] in selectOverrides.entries() {
+            configMap[string `${SNAPSHOT_SELECT_STATEMENT_OVERRIDES}.${tableName}`] = statement;
+        }
+    }
+
+    IncrementalSnapshot? incremental = snapshot.incremental;
+    if incremental !is () {
+        populateIncrementalSnapshotConfigurations(incremental, configMap);
+    }
+}
+
+isolated function populateIncrementalSnapshotConfigurations(IncrementalSnapshot incremental, map<string> configMap) {
+    // The in-process channel receives the snapshot signals of the listener, while the source channel is kept enabled
+    // as it is by default. The progress of the snapshots is reported through the log channel
+    addChannels(configMap, SIGNAL_ENABLED_CHANNELS, SOURCE_SIGNAL_CHANNEL, IN_PROCESS_SIGNAL_CHANNEL);
+    addChannels(configMap, NOTIFICATION_ENABLED_CHANNELS, LOG_NOTIFICATION_CHANNEL);
+    configMap[READ_ONLY] = incremental.readOnly.toString();
+    string? signalTable = incremental.signalTable;
+    if signalTable !is () {
+        configMap[SIGNAL_DATA_COLLECTION] = signalTable;
+    }
+}
+
+isolated function addChannels(map<string> configMap, string key, string... channels) {
+    string[] enabledChannels = from string channel in re `,`.split(configMap[key] ?: "")
+        let string trimmedChannel = channel.trim()
+        where trimmedChannel != ""
+        select trimmedChannel;
+    foreach string channel in channels {
+        if enabledChannels.indexOf(channel) is () {
+            enabledChannels.push(channel);
+        }
+    }
+    configMap[key] = string:'join(",", ...enabledChannels);
 }
 
 # Populates the database configurations in the given map.
@@ -138,6 +138,13 @@ public class CompilerPluginTest {
         Assert.assertEquals(diagnosticResult.errors().size(), 0);
     }
 
+    @Test(description = "Validate onBatch method")
+    public void testValidService12() {
+        PackageCompilation currentPackage = loadAndCompilePackage("valid_service_12");
+        DiagnosticResult diagnosticResult = currentPackage.diagnosticResult();
+        Assert.assertEquals(diagnosticResult.errors().size(), 0);
+    }
+
     @Test(description = "Validate no remote method")
     public void testInvalidService1() {
         PackageCompilation currentPackage = loadAndCompilePackage("invalid_service_1");
@@ -471,4 +478,37 @@ public class CompilerPluginTest {
         });
     }
 
+    @Test(description = "Validate parameters for onBatch")
+    public void testInvalidService21() {
+        PackageCompilation currentPackage = loadAndCompilePackage("invalid_service_21");
+        DiagnosticResult diagnosticResult = currentPackage.diagnosticResult();
+        assertDiagnostics(diagnosticResult, new Object[][]{
+                {
+                        INVALID_PARAM_COUNT,
+                        "invalid parameter count: expected one parameter of type ''cdc:ChangeEvent[]''",
+                        "(24:27,24:29)"
+                },
+                {
+                        INVALID_PARAM_COUNT,
+                        "invalid parameter count: expected one parameter of type ''cdc:ChangeEvent[]''",
+                        "(29:27,29:71)"
+                },
+                {
+                        INVALID_PARAM_TYPE,
+                        "invalid type: expected ''cdc:ChangeEvent[]''",
+                        "(34:28,34:43)"
+                },
+                {
+                        INVALID_PARAM_TYPE,
+                        "invalid type: expected ''cdc:ChangeEvent[]''",
+                        "(39:28,39:52)"
+                },
+                {
+                        INVALID_RETURN_TYPE_ERROR_OR_NIL,
+                        "invalid return type: expected ''error?'' or ''cdc:Error?''",
+                        "(44:62,44:68)"
+                }
+        });
+    }
+
 }
@@ -0,0 +1,45 @@
+// Copyright (c) 2025, WSO2 LLC. (https://www.wso2.com).
+//
+// WSO2 LLC. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+//     http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied. See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+import ballerinax/cdc;
+
+listener MockListener cdcListener = new (database = {
+    username: "root",
+    password: "root"
+});
+
+type ProductEvent record {|
+    *cdc:ChangeEvent;
+    record {|int id; string name;|}? after = ();
+|};
+
+service cdc:Service on cdcListener {
+    remote function onBatch(cdc:ChangeEvent[] events) {
+    }
+}
+
+service cdc:Service on cdcListener {
+    remote function onBatch(ProductEvent[] events) returns error? {
+    }
+}
+
+service cdc:Service on cdcListener {
+    remote function onBatch(readonly & cdc:ChangeEvent[] events) returns cdc:Error? {
+    }
+
+    remote function onError(cdc:Error e) {
+    }
+}
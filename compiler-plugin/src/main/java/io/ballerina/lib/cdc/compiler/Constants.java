@@ -27,19 +27,25 @@ public final class Constants {
     // Parameters
     public static final String ERROR_PARAM = "Error";
 
+    // Change event fields
+    public static final String CHANGE_EVENT_OP_FIELD = "op";
+    public static final String CHANGE_EVENT_TABLE_NAME_FIELD = "tableName";
+
     public static final String CDC_LISTENER_NAME = "Listener";
     public static final List<String> VALID_FUNCTIONS = List.of(
             ServiceMethodNames.ON_READ,
             ServiceMethodNames.ON_CREATE,
             ServiceMethodNames.ON_DELETE,
             ServiceMethodNames.ON_UPDATE,
-            ServiceMethodNames.ON_TRUNCATE
+            ServiceMethodNames.ON_TRUNCATE,
+            ServiceMethodNames.ON_BATCH
     );
     public static final List<String> VALID_FUNCTIONS_NON_POSTGRES = List.of(
             ServiceMethodNames.ON_READ,
             ServiceMethodNames.ON_CREATE,
             ServiceMethodNames.ON_DELETE,
-            ServiceMethodNames.ON_UPDATE
+            ServiceMethodNames.ON_UPDATE,
+            ServiceMethodNames.ON_BATCH
     );
 
     private Constants() {
@@ -52,6 +58,7 @@ public final class Constants {
         public static final String ON_DELETE = "onDelete";
         public static final String ON_ERROR = "onError";
         public static final String ON_TRUNCATE = "onTruncate";
+        public static final String ON_BATCH = "onBatch";
 
         private ServiceMethodNames() {
         }
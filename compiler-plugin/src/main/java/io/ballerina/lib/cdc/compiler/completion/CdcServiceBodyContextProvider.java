@@ -28,6 +28,7 @@ import io.ballerina.projects.plugins.completion.CompletionUtil;
 import java.util.List;
 import java.util.stream.Collectors;
 
+import static io.ballerina.lib.cdc.compiler.Constants.ServiceMethodNames.ON_BATCH;
 import static io.ballerina.lib.cdc.compiler.Constants.ServiceMethodNames.ON_CREATE;
 import static io.ballerina.lib.cdc.compiler.Constants.ServiceMethodNames.ON_DELETE;
 import static io.ballerina.lib.cdc.compiler.Constants.ServiceMethodNames.ON_ERROR;
@@ -76,6 +77,11 @@ public class CdcServiceBodyContextProvider implements CompletionProvider<Service
                     CompletionUtil.getPlaceHolderText(1),
                     CompletionUtil.LINE_BREAK + CompletionUtil.PADDING + CompletionUtil.getPlaceHolderText(2)
                             + CompletionUtil.LINE_BREAK);
+            case ON_BATCH -> String.format("%s events) %s{%s}",
+                    CompletionUtil.getPlaceHolderText(1, "cdc:ChangeEvent[]"),
+                    CompletionUtil.getPlaceHolderText(2),
+                    CompletionUtil.LINE_BREAK + CompletionUtil.PADDING + CompletionUtil.getPlaceHolderText(3)
+                            + CompletionUtil.LINE_BREAK);
             default -> "";
         };
     }
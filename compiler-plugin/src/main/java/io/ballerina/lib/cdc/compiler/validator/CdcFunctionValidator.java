@@ -18,8 +18,12 @@
 package io.ballerina.lib.cdc.compiler.validator;
 
 import io.ballerina.compiler.api.SemanticModel;
+import io.ballerina.compiler.api.symbols.ArrayTypeSymbol;
+import io.ballerina.compiler.api.symbols.IntersectionTypeSymbol;
 import io.ballerina.compiler.api.symbols.MethodSymbol;
 import io.ballerina.compiler.api.symbols.ParameterSymbol;
+import io.ballerina.compiler.api.symbols.RecordFieldSymbol;
+import io.ballerina.compiler.api.symbols.RecordTypeSymbol;
 import io.ballerina.compiler.api.symbols.Symbol;
 import io.ballerina.compiler.api.symbols.TypeDescKind;
 import io.ballerina.compiler.api.symbols.TypeReferenceTypeSymbol;
@@ -40,6 +44,7 @@ import io.ballerina.tools.text.LineRange;
 import io.ballerina.tools.text.TextRange;
 
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 import static io.ballerina.compiler.api.symbols.TypeDescKind.ERROR;
@@ -48,7 +53,10 @@ import static io.ballerina.compiler.api.symbols.TypeDescKind.STRING;
 import static io.ballerina.compiler.api.symbols.TypeDescKind.TYPE_REFERENCE;
 import static io.ballerina.compiler.syntax.tree.SyntaxKind.OPTIONAL_TYPE_DESC;
 import static io.ballerina.compiler.syntax.tree.SyntaxKind.UNION_TYPE_DESC;
+import static io.ballerina.lib.cdc.compiler.Constants.CHANGE_EVENT_OP_FIELD;
+import static io.ballerina.lib.cdc.compiler.Constants.CHANGE_EVENT_TABLE_NAME_FIELD;
 import static io.ballerina.lib.cdc.compiler.Constants.ERROR_PARAM;
+import static io.ballerina.lib.cdc.compiler.Constants.ServiceMethodNames.ON_BATCH;
 import static io.ballerina.lib.cdc.compiler.Constants.ServiceMethodNames.ON_CREATE;
 import static io.ballerina.lib.cdc.compiler.Constants.ServiceMethodNames.ON_DELETE;
 import static io.ballerina.lib.cdc.compiler.Constants.ServiceMethodNames.ON_ERROR;
@@ -84,6 +92,7 @@ public class CdcFunctionValidator {
             case ON_READ, ON_CREATE, ON_DELETE -> validateSingleRecordParamFunction();
             case ON_UPDATE -> validateTwoRecordParamFunction();
             case ON_TRUNCATE -> validateEmptyParamFunction();
+            case ON_BATCH -> validateBatchFunction();
             case ON_ERROR -> validateOnErrorFunction();
             default -> {
                 // No validation required for other functions.
@@ -156,6 +165,22 @@ public class CdcFunctionValidator {
         validateReturnTypeErrorOrNil();
     }
 
+    private void validateBatchFunction() {
+        if (!isRemoteFunction()) {
+            return;
+        }
+
+        SeparatedNodeList<ParameterNode> parameters = functionDefNode.functionSignature().parameters();
+        if (parameters.size() != 1) {
+            reportErrorDiagnostics(INVALID_PARAM_COUNT, getParameterLocation(),
+                    "one parameter of type ''cdc:ChangeEvent[]''");
+            return;
+        }
+
+        validateChangeEventArrayParameter(parameters.get(0));
+        validateReturnTypeErrorOrNil();
+    }
+
     private void validateRecordParametersAreSameType(ParameterNode firstParam, ParameterNode secondParam) {
         Optional<Symbol> firstParamSymbolOpt = semanticModel.symbol(firstParam);
         Optional<Symbol> secondParamSymbolOpt = semanticModel.symbol(secondParam);
@@ -231,6 +256,48 @@ public class CdcFunctionValidator {
         return true;
     }
 
+    private void validateChangeEventArrayParameter(ParameterNode parameterNode) {
+        if (!(parameterNode instanceof RequiredParameterNode requiredParam)) {
+            reportDiagnosticsForNonRequiredParam(parameterNode);
+            return;
+        }
+
+        Optional<Symbol> paramSymbolOpt = this.semanticModel.symbol(requiredParam);
+        if (paramSymbolOpt.isEmpty()) {
+            return;
+        }
+
+        TypeSymbol typeSymbol = getEffectiveType(((ParameterSymbol) paramSymbolOpt.get()).typeDescriptor());
+        if (!(typeSymbol instanceof ArrayTypeSymbol arrayTypeSymbol) ||
+                !isChangeEventType(getEffectiveType(arrayTypeSymbol.memberTypeDescriptor()))) {
+            reportErrorDiagnostics(INVALID_PARAM_TYPE, requiredParam.typeName().location(), "cdc:ChangeEvent[]");
+        }
+    }
+
+    // A change event type is a record type which includes the 'op' and 'tableName' fields of 'cdc:ChangeEvent'
+    private boolean isChangeEventType(TypeSymbol typeSymbol) {
+        if (!(typeSymbol instanceof RecordTypeSymbol recordTypeSymbol)) {
+            return false;
+        }
+        Map<String, RecordFieldSymbol> fields = recordTypeSymbol.fieldDescriptors();
+        return isStringField(fields.get(CHANGE_EVENT_OP_FIELD)) &&
+                isStringField(fields.get(CHANGE_EVENT_TABLE_NAME_FIELD));
+    }
+
+    private boolean isStringField(RecordFieldSymbol fieldSymbol) {
+        return fieldSymbol != null && getEffectiveType(fieldSymbol.typeDescriptor()).typeKind() == STRING;
+    }
+
+    private TypeSymbol getEffectiveType(TypeSymbol typeSymbol) {
+        if (typeSymbol instanceof TypeReferenceTypeSymbol typeRefSymbol) {
+            return getEffectiveType(typeRefSymbol.typeDescriptor());
+        }
+        if (typeSymbol instanceof IntersectionTypeSymbol intersectionTypeSymbol) {
+            return getEffectiveType(intersectionTypeSymbol.effectiveTypeDescriptor());
+        }
+        return typeSymbol;
+    }
+
     private void validateStringParameter(ParameterNode parameterNode) {
         if (!(parameterNode instanceof RequiredParameterNode requiredParam)) {
             reportDiagnosticsForNonRequiredParam(parameterNode);
@@ -17,8 +17,9 @@
  */
 package io.ballerina.lib.cdc;
 
-import com.google.gson.Gson;
-import com.google.gson.JsonObject;
+import io.ballerina.lib.cdc.decoder.EventDecoder;
+import io.ballerina.lib.cdc.models.BatchMethod;
+import io.ballerina.lib.cdc.models.DispatchOptions;
 import io.ballerina.lib.cdc.models.Method;
 import io.ballerina.lib.cdc.models.Payload;
 import io.ballerina.lib.cdc.models.Service;
@@ -27,49 +28,92 @@ import io.ballerina.lib.cdc.utils.Constants.EventMembers;
 import io.ballerina.lib.cdc.utils.Constants.ServiceMethodNames;
 import io.ballerina.lib.data.jsondata.json.Native;
 import io.ballerina.runtime.api.Runtime;
-import io.ballerina.runtime.api.concurrent.StrandMetadata;
 import io.ballerina.runtime.api.creators.ErrorCreator;
+import io.ballerina.runtime.api.creators.TypeCreator;
 import io.ballerina.runtime.api.creators.ValueCreator;
-import io.ballerina.runtime.api.types.Type;
+import io.ballerina.runtime.api.types.ArrayType;
+import io.ballerina.runtime.api.types.MapType;
+import io.ballerina.runtime.api.types.PredefinedTypes;
 import io.ballerina.runtime.api.utils.JsonUtils;
 import io.ballerina.runtime.api.utils.StringUtils;
-import io.ballerina.runtime.api.utils.TypeUtils;
+import io.ballerina.runtime.api.values.BArray;
 import io.ballerina.runtime.api.values.BError;
 import io.ballerina.runtime.api.values.BMap;
 import io.ballerina.runtime.api.values.BString;
 import io.ballerina.runtime.api.values.BTypedesc;
-import io.debezium.engine.ChangeEvent;
 import io.debezium.engine.DebeziumEngine;
 
 import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
 
-import static io.ballerina.lib.cdc.utils.Constants.ALLOW_DATA_PROJECTION;
 import static io.ballerina.lib.cdc.utils.Constants.BallerinaErrors.EVENT_PROCESSING_ERROR;
 import static io.ballerina.lib.cdc.utils.Constants.BallerinaErrors.EVENT_PROCESSING_ERROR_DETAIL;
 import static io.ballerina.lib.cdc.utils.Constants.BallerinaErrors.EVENT_PROCESSING_ERROR_DETAIL_PAYLOAD_FIELD;
 import static io.ballerina.lib.cdc.utils.Constants.BallerinaErrors.PAYLOAD_BINDING_ERROR;
-import static io.ballerina.lib.cdc.utils.Constants.ENABLE_CONSTRAINT_VALIDATION;
-import static io.ballerina.lib.cdc.utils.Constants.PARSER_AS_TYPE_OPTIONS;
 import static io.ballerina.lib.cdc.utils.Constants.SERVICE_MAP_ALL_KEY;
 import static io.ballerina.lib.cdc.utils.ErrorUtils.createError;
 import static io.ballerina.lib.cdc.utils.ErrorUtils.getEventProcessingErrorDetail;
 import static io.ballerina.lib.cdc.utils.ModuleUtils.getModule;
-import static java.lang.Boolean.FALSE;
 
 /**
  * Handles change events from the Debezium engine and invokes the appropriate Ballerina service methods.
+ * <p>
+ * The events are either handled in batches, or one at a time when the asynchronous engine processes them on its own
+ * record processing threads.
+ *
+ * @param <R> The type of the change events emitted by the engine
  */
-public class BalChangeConsumer implements DebeziumEngine.ChangeConsumer<ChangeEvent<String, String>> {
+public class BalChangeConsumer<R> implements DebeziumEngine.ChangeConsumer<R>, Consumer<R> {
+
+    private static final MapType JSON_MAP_TYPE = TypeCreator.createMapType(PredefinedTypes.TYPE_JSON);
+    private static final ArrayType JSON_ARRAY_TYPE = TypeCreator.createArrayType(PredefinedTypes.TYPE_JSON);
+    private static final BString OP_MEMBER = StringUtils.fromString(EventMembers.OP);
+    private static final BString TABLE_NAME_MEMBER = StringUtils.fromString(EventMembers.TABLE_NAME);
+    private static final BString BEFORE_MEMBER = StringUtils.fromString(EventMembers.BEFORE);
+    private static final BString AFTER_MEMBER = StringUtils.fromString(EventMembers.AFTER);
 
     private final Map<String, Service> serviceMap;
     private final boolean isSingleServiceAttached;
     private final Service singleService;
     private final Runtime runtime;
+    private final EventDecoder<R> decoder;
+    // Routes resolved per event destination, along with the metrics of the table of the destination. A route without
+    // a service marks a destination without an attached service.
+    private final Map<String, Route> routes = new ConcurrentHashMap<>();
+    private final boolean isRoutedByDestination;
+    private final Set<String> skippedOperations;
+    private final DispatchOptions dispatchOptions;
+    private final Semaphore inFlightWindow;
+    private final EventCompactor<R> compactor;
+    // The operations and table names of the events are repeated across events, such as the READ events of a
+    // snapshot, so their Ballerina strings are created once
+    private final Map<String, BString> names = new ConcurrentHashMap<>();
+    private final ListenerMetrics metrics;
 
-    public BalChangeConsumer(Map<String, Service> serviceMap, Runtime runtime) {
+    /**
+     * Creates a consumer that dispatches the change events to the attached services.
+     *
+     * @param serviceMap            The attached services, keyed by the tables they receive events from
+     * @param runtime               The Ballerina runtime
+     * @param decoder               The decoder of the change events emitted by the engine
+     * @param isRoutedByDestination Indicates if all the events of a destination belong to a single table, so that
+     *                              the service resolved for a destination can be reused for its later events
+     * @param skippedOperations     The operations which are discarded without being dispatched
+     * @param dispatchOptions       How the events of a batch are dispatched to the service methods
+     * @param metrics               The metrics of the listener, which record the processing of the events
+     */
+    BalChangeConsumer(Map<String, Service> serviceMap, Runtime runtime, EventDecoder<R> decoder,
+                      boolean isRoutedByDestination, Set<String> skippedOperations,
+                      DispatchOptions dispatchOptions, ListenerMetrics metrics) {
         this.serviceMap = new HashMap<>(serviceMap);
         if (serviceMap.size() == 1 && serviceMap.containsKey(SERVICE_MAP_ALL_KEY)) {
             this.isSingleServiceAttached = true;
@@ -79,55 +123,305 @@ public class BalChangeConsumer implements DebeziumEngine.ChangeConsumer<ChangeEv
             this.singleService = null;
         }
         this.runtime = runtime;
+        this.decoder = decoder;
+        this.isRoutedByDestination = isRoutedByDestination;
+        this.skippedOperations = new HashSet<>(skippedOperations);
+        this.dispatchOptions = dispatchOptions;
+        this.inFlightWindow = dispatchOptions.isAsynchronous() ? new Semaphore(dispatchOptions.maxInFlight()) : null;
+        this.compactor = serviceMap.values().stream().anyMatch(Service::isCompacted)
+                ? new EventCompactor<>(decoder, this::findService, this.skippedOperations) : null;
+        this.metrics = metrics;
+    }
+
+    @Override
+    public void handleBatch(List<R> records, DebeziumEngine.RecordCommitter<R> committer)
+            throws InterruptedException {
+        long receivedAt = System.nanoTime();
+        this.metrics.onBatch(records.size());
+        List<DecodedRecord<R>> events = compact(records);
+        if (this.dispatchOptions.isAsynchronous()) {
+            dispatchAsynchronously(events, committer, receivedAt);
+            if (events.size() < records.size() && !records.isEmpty()) {
+                // Covers the events dropped by the compaction, which are never dispatched
+                committer.markProcessed(records.getLast());
+            }
+            committer.markBatchFinished();
+            return;
+        }
+
+        EventBatches batches = new EventBatches();
+        if (this.dispatchOptions.isConcurrent()) {
+            dispatchConcurrently(events, batches, receivedAt);
+        } else if (this.dispatchOptions.isPipelined()) {
+            dispatchPipelined(events, batches, receivedAt);
+        } else {
+            for (DecodedRecord<R> event : events) {
+                processRecord(event, batches, receivedAt);
+            }
+        }
+        // The events are only marked as processed once the collected batches are delivered as well
+        batches.forEach(this::dispatchBatch);
+        for (R record : records) {
+            committer.markProcessed(record);
+        }
+        committer.markBatchFinished();
+    }
+
+    private List<DecodedRecord<R>> compact(List<R> records) {
+        if (this.compactor != null) {
+            return this.compactor.compact(records);
+        }
+        List<DecodedRecord<R>> events = new ArrayList<>(records.size());
+        for (R record : records) {
+            events.add(new DecodedRecord<>(record, null));
+        }
+        return events;
     }
 
+    // Handles an event delivered by a record processing thread of the asynchronous engine, which marks the event as
+    // processed once this returns
     @Override
-    public void handleBatch(List<ChangeEvent<String, String>> records,
-                            DebeziumEngine.RecordCommitter<ChangeEvent<String, String>> committer) {
-        for (ChangeEvent<String, String> record : records) {
-            Service selectedService = null;
-            try {
-                JsonObject jsonEvent = new Gson().fromJson(record.value(), JsonObject.class);
-                Payload payload = new Payload(jsonEvent.getAsJsonObject(EventMembers.PAYLOAD));
-                selectedService = getSelectedService(payload);
-
-                String methodName = getMethodName(payload.getOp());
-                Method method = selectedService.getMethod(methodName);
-                if (method == null) {
-                    throw createMethodNotFoundError(payload, methodName);
+    public void accept(R record) {
+        processRecord(new DecodedRecord<>(record, null), null, System.nanoTime());
+    }
+
+    // Dispatches each event on its own virtual thread, while limiting the number of events in flight. The events
+    // are marked as processed up to the highest event, before which all the events are completed
+    private void dispatchAsynchronously(List<DecodedRecord<R>> events, DebeziumEngine.RecordCommitter<R> committer,
+                                        long receivedAt) throws InterruptedException {
+        CommitWatermark<R> watermark = new CommitWatermark<>(
+                events.stream().map(DecodedRecord::record).toList(), committer);
+        for (int i = 0; i < events.size(); i++) {
+            this.inFlightWindow.acquire();
+            int index = i;
+            Thread.ofVirtual().start(() -> {
+                try {
+                    processRecord(events.get(index), null, receivedAt);
+                } finally {
+                    this.inFlightWindow.release();
+                    completeRecord(watermark, index);
                 }
+            });
+        }
+        watermark.await();
+    }
 
-                boolean isIsolated = selectedService.isIsolated() && method.isIsolated();
-                StrandMetadata metaData = new StrandMetadata(isIsolated, null);
-                Object returnValue = this.runtime.callMethod(selectedService.getService(), methodName, metaData,
-                        processParameters(selectedService, methodName, payload));
-                handleReturnValue(returnValue);
-            } catch (BError bError) {
-                handleError(selectedService, bError);
-            } catch (Throwable e) {
-                // Catch unexpected exceptions to prevent the engine from stopping
-                // This ensures the library can log details of the issue without disrupting ongoing operations
-                BMap<BString, Object> detail = ValueCreator.createMapValue();
-                detail.put(StringUtils.fromString(EVENT_PROCESSING_ERROR_DETAIL_PAYLOAD_FIELD),
-                        JsonUtils.parse(record.value()));
-                BError error = createError(EVENT_PROCESSING_ERROR, "Event Processing failed. " + e.getMessage(),
-                        ErrorCreator.createError(e), detail);
-                handleError(selectedService, error);
+    private static <R> void completeRecord(CommitWatermark<R> watermark, int index) {
+        try {
+            watermark.complete(index);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    // Distributes the events among the lanes, and waits for all the lanes to complete before the batch completes
+    private void dispatchConcurrently(List<DecodedRecord<R>> events, EventBatches batches, long receivedAt)
+            throws InterruptedException {
+        int laneCount = this.dispatchOptions.lanes();
+        List<List<DecodedRecord<R>>> lanes = new ArrayList<>(laneCount);
+        for (int i = 0; i < laneCount; i++) {
+            lanes.add(new ArrayList<>());
+        }
+        for (DecodedRecord<R> event : events) {
+            lanes.get(Math.floorMod(getPartitionHash(event.record()), laneCount)).add(event);
+        }
+
+        List<Thread> laneThreads = new ArrayList<>(laneCount);
+        for (List<DecodedRecord<R>> lane : lanes) {
+            if (lane.isEmpty()) {
+                continue;
             }
+            laneThreads.add(Thread.ofVirtual().start(() -> {
+                for (DecodedRecord<R> event : lane) {
+                    processRecord(event, batches, receivedAt);
+                }
+            }));
+        }
+        for (Thread laneThread : laneThreads) {
+            laneThread.join();
         }
     }
 
-    private Service getSelectedService(Payload payload) {
+    // Decodes the events in parallel on the decode workers, while the events are dispatched in order on this thread
+    private void dispatchPipelined(List<DecodedRecord<R>> events, EventBatches batches, long receivedAt)
+            throws InterruptedException {
+        DecodeBuffer<PreparedEvent> buffer = new DecodeBuffer<>(this.dispatchOptions.bufferSize());
+        AtomicInteger nextIndex = new AtomicInteger();
+        int workerCount = Math.min(this.dispatchOptions.decodeWorkers(), events.size());
+        List<Thread> workers = new ArrayList<>(workerCount);
+        for (int i = 0; i < workerCount; i++) {
+            workers.add(Thread.ofVirtual().start(() -> {
+                int index;
+                while ((index = nextIndex.getAndIncrement()) < events.size()) {
+                    PreparedEvent prepared = prepareRecord(events.get(index), true, receivedAt);
+                    try {
+                        buffer.put(index, prepared);
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                        return;
+                    }
+                }
+            }));
+        }
+        try {
+            for (DecodedRecord<R> event : events) {
+                dispatchPrepared(event.record(), buffer.take(), batches);
+            }
+        } finally {
+            for (Thread worker : workers) {
+                worker.interrupt();
+            }
+        }
+    }
+
+    private int getPartitionHash(R record) {
+        int destinationHash = Objects.hashCode(this.decoder.getDestination(record));
+        if (!this.dispatchOptions.isPartitionedByKey()) {
+            return destinationHash;
+        }
+        return 31 * destinationHash + Objects.hashCode(this.decoder.getKey(record));
+    }
+
+    // Dispatches the event to its service method, or adds it to the batch of its service if the service
+    // implements the `onBatch` method
+    private void processRecord(DecodedRecord<R> event, EventBatches batches, long receivedAt) {
+        dispatchPrepared(event.record(), prepareRecord(event, batches != null, receivedAt), batches);
+    }
+
+    // Decodes the event and binds it to the parameters of its service method. Returns null if the event is dropped
+    private PreparedEvent prepareRecord(DecodedRecord<R> event, boolean isBatched, long receivedAt) {
+        long decodedFrom = System.nanoTime();
+        R record = event.record();
+        Service selectedService = null;
+        Payload payload = null;
+        ListenerMetrics.EventMetrics eventMetrics = null;
+        try {
+            String destination = this.isRoutedByDestination ? this.decoder.getDestination(record) : null;
+            Route route = destination == null ? null : this.routes.get(destination);
+            if (route != null && route.service() == null) {
+                // Events of tables without an attached service are reported once, and dropped afterwards
+                route.metrics().forOperation(null).onSkipped();
+                return null;
+            }
+
+            payload = event.payload() != null ? event.payload() : this.decoder.decode(record);
+            if (route == null && destination != null) {
+                route = resolveRoute(destination, payload);
+            }
+            // Without routes, the events of a destination may belong to several tables, so their metrics are
+            // resolved per event
+            ListenerMetrics.TableMetrics tableMetrics = route != null ? route.metrics()
+                    : this.metrics.getTableMetrics(getServiceMapKey(payload));
+            eventMetrics = tableMetrics.forOperation(payload.getOp());
+            eventMetrics.onReceived();
+            if (this.skippedOperations.contains(payload.getOp())) {
+                eventMetrics.onSkipped();
+                return null;
+            }
+            selectedService = route != null && route.service() != null ? route.service()
+                    : getSelectedService(payload);
+
+            if (isBatched && selectedService.getBatchMethod() != null) {
+                return PreparedEvent.batched(selectedService, payload, eventMetrics, createBatchEvent(payload),
+                        receivedAt, decodedFrom);
+            }
+
+            String methodName = getMethodName(payload.getOp());
+            Method method = selectedService.getMethod(methodName);
+            if (method == null) {
+                throw createMethodNotFoundError(payload, methodName);
+            }
+            return PreparedEvent.invocation(selectedService, payload, eventMetrics, methodName,
+                    method.strandMetadata(), processParameters(method, payload), receivedAt, decodedFrom);
+        } catch (BError bError) {
+            return PreparedEvent.failed(selectedService, payload, getFailedEventMetrics(eventMetrics), bError,
+                    receivedAt, decodedFrom);
+        } catch (Throwable e) {
+            return PreparedEvent.failed(selectedService, payload, getFailedEventMetrics(eventMetrics),
+                    createProcessingError(record, e), receivedAt, decodedFrom);
+        }
+    }
+
+    // Events which fail before their table and operation are known are counted as events of an unknown table
+    private ListenerMetrics.EventMetrics getFailedEventMetrics(ListenerMetrics.EventMetrics eventMetrics) {
+        return eventMetrics != null ? eventMetrics : this.metrics.getTableMetrics(null).forOperation(null);
+    }
+
+    private void dispatchPrepared(R record, PreparedEvent prepared, EventBatches batches) {
+        if (prepared == null) {
+            return;
+        }
+        ListenerMetrics.EventMetrics eventMetrics = prepared.metrics();
+        if (prepared.error() != null) {
+            eventMetrics.onFailed();
+            handleError(prepared.service(), prepared.error());
+            return;
+        }
+        if (prepared.batchEvent() != null) {
+            batches.add(prepared);
+            return;
+        }
+        this.metrics.onHandlerStarted();
+        long dispatchedAt = System.nanoTime();
+        try {
+            Object returnValue = this.runtime.callMethod(prepared.service().getService(), prepared.methodName(),
+                    prepared.strandMetadata(), prepared.parameters());
+            if (returnValue instanceof BError) {
+                eventMetrics.onFailed();
+            } else {
+                eventMetrics.onDispatched();
+            }
+            eventMetrics.onHandled(prepared, prepared.methodName(), dispatchedAt);
+            handleReturnValue(returnValue);
+        } catch (BError bError) {
+            eventMetrics.onFailed();
+            handleError(prepared.service(), bError);
+        } catch (Throwable e) {
+            eventMetrics.onFailed();
+            handleError(prepared.service(), createProcessingError(record, e));
+        } finally {
+            this.metrics.onHandlerCompleted();
+        }
+    }
+
+    // Catches unexpected exceptions to prevent the engine from stopping
+    // This ensures the library can log details of the issue without disrupting ongoing operations
+    private BError createProcessingError(R record, Throwable e) {
+        BMap<BString, Object> detail = ValueCreator.createMapValue();
+        detail.put(StringUtils.fromString(EVENT_PROCESSING_ERROR_DETAIL_PAYLOAD_FIELD), this.decoder.toJson(record));
+        return createError(EVENT_PROCESSING_ERROR, "Event Processing failed. " + e.getMessage(),
+                ErrorCreator.createError(e), detail);
+    }
+
+    // Resolves the route of a destination, without a service if no service is attached for the table of the event
+    private Route resolveRoute(String destination, Payload payload) {
+        String serviceMapKey = getServiceMapKey(payload);
+        Service service = this.isSingleServiceAttached ? this.singleService : this.serviceMap.get(serviceMapKey);
+        Route route = new Route(service, this.metrics.getTableMetrics(serviceMapKey));
+        this.routes.put(destination, route);
+        return route;
+    }
+
+    // Resolves the service of the event without reporting an error, or returns null if the event has no service
+    private Service findService(R record, Payload payload) {
         if (this.isSingleServiceAttached) {
             return this.singleService;
         }
-        StringBuilder serviceMapKeyBuilder = new StringBuilder(payload.getDatabase()).append(".");
-        if (payload.getSchema() != null && !payload.getSchema().isEmpty()) {
-            serviceMapKeyBuilder.append(payload.getSchema()).append(".");
+        String destination = this.isRoutedByDestination ? this.decoder.getDestination(record) : null;
+        if (destination != null) {
+            Route route = this.routes.get(destination);
+            if (route != null) {
+                return route.service();
+            }
         }
-        serviceMapKeyBuilder.append(payload.getTable());
-        String serviceMapKey = serviceMapKeyBuilder.toString();
+        return this.serviceMap.get(getServiceMapKey(payload));
+    }
 
+    private Service getSelectedService(Payload payload) {
+        if (this.isSingleServiceAttached) {
+            return this.singleService;
+        }
+        String serviceMapKey = getServiceMapKey(payload);
         if (this.serviceMap.containsKey(serviceMapKey)) {
             return this.serviceMap.get(serviceMapKey);
         }
@@ -137,6 +431,15 @@ public class BalChangeConsumer implements DebeziumEngine.ChangeConsumer<ChangeEv
                 ValueCreator.createRecordValue(getModule(), EVENT_PROCESSING_ERROR_DETAIL, detail));
     }
 
+    private static String getServiceMapKey(Payload payload) {
+        StringBuilder serviceMapKeyBuilder = new StringBuilder(payload.getDatabase()).append(".");
+        if (payload.getSchema() != null && !payload.getSchema().isEmpty()) {
+            serviceMapKeyBuilder.append(payload.getSchema()).append(".");
+        }
+        serviceMapKeyBuilder.append(payload.getTable());
+        return serviceMapKeyBuilder.toString();
+    }
+
     private String getMethodName(String op) {
         return switch (op) {
             case DebeziumOperation.READ -> ServiceMethodNames.ON_READ;
@@ -148,36 +451,93 @@ public class BalChangeConsumer implements DebeziumEngine.ChangeConsumer<ChangeEv
         };
     }
 
-    private Object[] processParameters(Service service, String functionName, Payload payload) {
-        Method method = service.getMethod(functionName);
-        if (method == null) {
-            throw createMethodNotFoundError(payload, functionName);
+    private BMap<BString, Object> createBatchEvent(Payload payload) {
+        BMap<BString, Object> event = ValueCreator.createMapValue(JSON_MAP_TYPE);
+        event.put(OP_MEMBER, toName(payload.getOp()));
+        event.put(TABLE_NAME_MEMBER, toName(payload.getTable()));
+        BMap<BString, Object> before = payload.getPayloadMember(EventMembers.BEFORE);
+        if (before != null) {
+            event.put(BEFORE_MEMBER, before);
+        }
+        BMap<BString, Object> after = payload.getPayloadMember(EventMembers.AFTER);
+        if (after != null) {
+            event.put(AFTER_MEMBER, after);
+        }
+        return event;
+    }
+
+    private BString toName(String name) {
+        return name == null ? null : this.names.computeIfAbsent(name, StringUtils::fromString);
+    }
+
+    private void dispatchBatch(Service service, List<PreparedEvent> events) {
+        BatchMethod batchMethod = service.getBatchMethod();
+        BArray eventArray = ValueCreator.createArrayValue(JSON_ARRAY_TYPE);
+        for (PreparedEvent event : events) {
+            eventArray.append(event.batchEvent());
+        }
+        this.metrics.onHandlerStarted();
+        long dispatchedAt = System.nanoTime();
+        try {
+            Object boundEvents = Native.parseAsType(eventArray, batchMethod.parserOptions(),
+                    batchMethod.eventsTypedesc());
+            if (boundEvents instanceof BError e) {
+                BMap<BString, Object> detail = ValueCreator.createMapValue();
+                detail.put(StringUtils.fromString(EVENT_PROCESSING_ERROR_DETAIL_PAYLOAD_FIELD), eventArray);
+                throw createError(PAYLOAD_BINDING_ERROR, "Payload binding failed. " + e.getMessage(), e, detail);
+            }
+            Object returnValue = this.runtime.callMethod(service.getService(), ServiceMethodNames.ON_BATCH,
+                    batchMethod.strandMetadata(), boundEvents);
+            countBatchEvents(events, !(returnValue instanceof BError));
+            for (PreparedEvent event : events) {
+                event.metrics().onHandled(event, ServiceMethodNames.ON_BATCH, dispatchedAt);
+            }
+            handleReturnValue(returnValue);
+        } catch (BError bError) {
+            countBatchEvents(events, false);
+            handleError(service, bError);
+        } catch (Throwable e) {
+            countBatchEvents(events, false);
+            BMap<BString, Object> detail = ValueCreator.createMapValue();
+            detail.put(StringUtils.fromString(EVENT_PROCESSING_ERROR_DETAIL_PAYLOAD_FIELD), eventArray);
+            BError error = createError(EVENT_PROCESSING_ERROR, "Event Processing failed. " + e.getMessage(),
+                    ErrorCreator.createError(e), detail);
+            handleError(service, error);
+        } finally {
+            this.metrics.onHandlerCompleted();
+        }
+    }
+
+    private void countBatchEvents(List<PreparedEvent> events, boolean isDispatched) {
+        for (PreparedEvent event : events) {
+            if (isDispatched) {
+                event.metrics().onDispatched();
+            } else {
+                event.metrics().onFailed();
+            }
         }
+    }
 
-        List<Object> parameters = new ArrayList<>();
+    private Object[] processParameters(Method method, Payload payload) {
+        Object[] parameters = new Object[method.parameterCount()];
+        int index = 0;
         if (method.hasBeforeParam()) {
-            parameters.add(processParameterToIntendedType(payload, EventMembers.BEFORE, method.beforeParamType()));
+            parameters[index++] = processParameterToIntendedType(payload, EventMembers.BEFORE,
+                    method.beforeTypedesc(), method.parserOptions());
         }
         if (method.hasAfterParam()) {
-            parameters.add(processParameterToIntendedType(payload, EventMembers.AFTER, method.afterParamType()));
+            parameters[index++] = processParameterToIntendedType(payload, EventMembers.AFTER,
+                    method.afterTypedesc(), method.parserOptions());
         }
         if (method.hasTableName()) {
-            parameters.add(StringUtils.fromString(payload.getTable()));
-        }
-        return parameters.toArray();
-    }
-
-    private Object processParameterToIntendedType(Payload payload, String memberKey, Type type) {
-        Map<String, Object> jsonDataOptions = new HashMap<>();
-        jsonDataOptions.put(ENABLE_CONSTRAINT_VALIDATION, FALSE);
-        jsonDataOptions.put(ALLOW_DATA_PROJECTION, FALSE);
-        BMap<BString, Object> mapValue = ValueCreator.createRecordValue(
-                io.ballerina.lib.data.ModuleUtils.getModule(),
-                PARSER_AS_TYPE_OPTIONS, jsonDataOptions);
-        BTypedesc typeDescValue = ValueCreator.createTypedescValue(TypeUtils.getReferredType(type));
-        JsonObject payloadMember = payload.getPayloadMember(memberKey);
-        String memberString = payloadMember == null ? "{}" : payloadMember.toString();
-        Object parsedRecord = Native.parseString(StringUtils.fromString(memberString), mapValue, typeDescValue);
+            parameters[index] = toName(payload.getTable());
+        }
+        return parameters;
+    }
+
+    private Object processParameterToIntendedType(Payload payload, String memberKey, BTypedesc typedesc,
+                                                  BMap<BString, Object> parserOptions) {
+        Object parsedRecord = payload.bindPayloadMember(memberKey, typedesc, parserOptions);
         if (parsedRecord instanceof BError e) {
             BMap<BString, Object> detail = ValueCreator.createMapValue();
             detail.put(StringUtils.fromString(EVENT_PROCESSING_ERROR_DETAIL_PAYLOAD_FIELD),
@@ -191,10 +551,8 @@ public class BalChangeConsumer implements DebeziumEngine.ChangeConsumer<ChangeEv
     private void handleError(Service selectedService, BError bError) {
         try {
             if (selectedService != null && selectedService.isOnErrorPresent()) {
-                boolean isIsolated = selectedService.isIsolated() && selectedService.isOnErrorMethodIsolated();
-                StrandMetadata metaData = new StrandMetadata(isIsolated, null);
                 Object returnValue = this.runtime.callMethod(selectedService.getService(),
-                        ServiceMethodNames.ON_ERROR, metaData, bError);
+                        ServiceMethodNames.ON_ERROR, selectedService.getOnErrorStrandMetadata(), bError);
                 handleReturnValue(returnValue);
             } else {
                 bError.printStackTrace();
@@ -216,4 +574,13 @@ public class BalChangeConsumer implements DebeziumEngine.ChangeConsumer<ChangeEv
         return createError(EVENT_PROCESSING_ERROR, "Function '" + methodName + "' is not available.",
                 null, ValueCreator.createRecordValue(getModule(), EVENT_PROCESSING_ERROR_DETAIL, detail));
     }
+
+    /**
+     * The service and the metrics resolved for the events of a destination.
+     *
+     * @param service The service of the table of the destination, or null if no service is attached for the table
+     * @param metrics The metrics of the table of the destination
+     */
+    private record Route(Service service, ListenerMetrics.TableMetrics metrics) {
+    }
 }
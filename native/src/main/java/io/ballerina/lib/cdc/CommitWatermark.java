@@ -0,0 +1,81 @@
+/**
+ * Copyright (c) 2025, WSO2 LLC. (https://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.ballerina.lib.cdc;
+
+import io.debezium.engine.DebeziumEngine;
+
+import java.util.List;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Tracks the change events of a batch that complete out of order, and marks them as processed in order.
+ * <p>
+ * An event is only marked as processed once all the events before it are completed, so that the committed offset
+ * never advances past an event which is still being processed.
+ *
+ * @param <R> The type of the change events emitted by the engine
+ */
+class CommitWatermark<R> {
+
+    private final List<R> records;
+    private final DebeziumEngine.RecordCommitter<R> committer;
+    private final boolean[] completed;
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition isBatchCompleted = lock.newCondition();
+    private int watermark = 0;
+
+    CommitWatermark(List<R> records, DebeziumEngine.RecordCommitter<R> committer) {
+        this.records = records;
+        this.committer = committer;
+        this.completed = new boolean[records.size()];
+    }
+
+    /**
+     * Marks the event at the given index of the batch as completed.
+     */
+    void complete(int index) throws InterruptedException {
+        lock.lock();
+        try {
+            completed[index] = true;
+            while (watermark < completed.length && completed[watermark]) {
+                committer.markProcessed(records.get(watermark));
+                watermark++;
+            }
+            if (watermark == completed.length) {
+                isBatchCompleted.signalAll();
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Waits until all the events of the batch are completed.
+     */
+    void await() throws InterruptedException {
+        lock.lock();
+        try {
+            while (watermark < completed.length) {
+                isBatchCompleted.await();
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+}
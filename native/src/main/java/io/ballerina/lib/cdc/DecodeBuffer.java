@@ -0,0 +1,85 @@
+/**
+ * Copyright (c) 2025, WSO2 LLC. (https://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.ballerina.lib.cdc;
+
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * A bounded ring buffer between the decode workers and the dispatching thread of a batch.
+ * <p>
+ * The workers put the decoded events into the buffer in any order, while the dispatching thread takes them in the
+ * order of the batch. A worker waits while its event is more than the capacity of the buffer ahead of the next event
+ * to dispatch, so that the decoded events waiting to be dispatched are bounded.
+ *
+ * @param <T> The type of the decoded events
+ */
+class DecodeBuffer<T> {
+
+    private final Object[] slots;
+    private final boolean[] filled;
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition isSlotReleased = lock.newCondition();
+    private final Condition isSlotFilled = lock.newCondition();
+    private int head = 0;
+
+    DecodeBuffer(int capacity) {
+        this.slots = new Object[capacity];
+        this.filled = new boolean[capacity];
+    }
+
+    /**
+     * Puts the decoded event at the given index of the batch, once its slot is released.
+     */
+    void put(int index, T event) throws InterruptedException {
+        lock.lock();
+        try {
+            while (index - head >= slots.length) {
+                isSlotReleased.await();
+            }
+            int slot = index % slots.length;
+            slots[slot] = event;
+            filled[slot] = true;
+            isSlotFilled.signalAll();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Takes the decoded event at the next index of the batch, once it is decoded.
+     */
+    @SuppressWarnings("unchecked")
+    T take() throws InterruptedException {
+        lock.lock();
+        try {
+            int slot = head % slots.length;
+            while (!filled[slot]) {
+                isSlotFilled.await();
+            }
+            T event = (T) slots[slot];
+            slots[slot] = null;
+            filled[slot] = false;
+            head++;
+            isSlotReleased.signalAll();
+            return event;
+        } finally {
+            lock.unlock();
+        }
+    }
+}
@@ -0,0 +1,31 @@
+/**
+ * Copyright (c) 2025, WSO2 LLC. (https://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.ballerina.lib.cdc;
+
+import io.ballerina.lib.cdc.models.Payload;
+
+/**
+ * A change event emitted by the engine, along with its payload if the payload is already decoded.
+ *
+ * @param record  The change event emitted by the engine. For a compacted change event, this is the last change event
+ *                of the compacted chain
+ * @param payload The decoded payload, or null if the change event is not decoded yet
+ * @param <R>     The type of the change events emitted by the engine
+ */
+record DecodedRecord<R>(R record, Payload payload) {
+}
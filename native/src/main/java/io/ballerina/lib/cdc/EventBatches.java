@@ -0,0 +1,45 @@
+/**
+ * Copyright (c) 2025, WSO2 LLC. (https://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.ballerina.lib.cdc;
+
+import io.ballerina.lib.cdc.models.Service;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.BiConsumer;
+
+/**
+ * Collects the change events of a batch for the services which receive them through the {@code onBatch} method.
+ * <p>
+ * The events of a service are kept in the order in which they are added. Events can be added concurrently from
+ * the dispatch lanes.
+ */
+class EventBatches {
+
+    private final Map<Service, List<PreparedEvent>> batches = new LinkedHashMap<>();
+
+    synchronized void add(PreparedEvent event) {
+        batches.computeIfAbsent(event.service(), k -> new ArrayList<>()).add(event);
+    }
+
+    synchronized void forEach(BiConsumer<Service, List<PreparedEvent>> action) {
+        batches.forEach(action);
+    }
+}
@@ -0,0 +1,166 @@
+/**
+ * Copyright (c) 2025, WSO2 LLC. (https://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.ballerina.lib.cdc;
+
+import io.ballerina.lib.cdc.decoder.EventDecoder;
+import io.ballerina.lib.cdc.models.CompactedPayload;
+import io.ballerina.lib.cdc.models.Payload;
+import io.ballerina.lib.cdc.models.Service;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.BiFunction;
+
+import static io.ballerina.lib.cdc.utils.Constants.DebeziumOperation.CREATE;
+import static io.ballerina.lib.cdc.utils.Constants.DebeziumOperation.DELETE;
+import static io.ballerina.lib.cdc.utils.Constants.DebeziumOperation.READ;
+import static io.ballerina.lib.cdc.utils.Constants.DebeziumOperation.TRUNCATE;
+import static io.ballerina.lib.cdc.utils.Constants.DebeziumOperation.UPDATE;
+
+/**
+ * Compacts the change events of the same row within a batch, for the services which are configured with compaction.
+ * <p>
+ * A chain of create, read and update events of a row is compacted into a single event, which carries the
+ * {@code before} member of the first event and the {@code after} member of the last event. A chain which starts with
+ * a create or read event and ends with a delete event is dropped, while a chain of updates which ends with a delete
+ * event is compacted into a delete event. The compacted event takes the position of the last event of its chain, so
+ * that the events remain ordered by their offsets.
+ *
+ * @param <R> The type of the change events emitted by the engine
+ */
+class EventCompactor<R> {
+
+    private final EventDecoder<R> decoder;
+    private final BiFunction<R, Payload, Service> serviceResolver;
+    private final Set<String> skippedOperations;
+
+    /**
+     * Creates a compactor of the change events of a batch.
+     *
+     * @param decoder           The decoder of the change events emitted by the engine
+     * @param serviceResolver   Resolves the service of a change event, or returns null if it has no attached service
+     * @param skippedOperations The operations which are discarded without being dispatched
+     */
+    EventCompactor(EventDecoder<R> decoder, BiFunction<R, Payload, Service> serviceResolver,
+                   Set<String> skippedOperations) {
+        this.decoder = decoder;
+        this.serviceResolver = serviceResolver;
+        this.skippedOperations = skippedOperations;
+    }
+
+    /**
+     * Compacts the change events of the given batch.
+     *
+     * @param records The change events of the batch
+     * @return The change events to dispatch, ordered by their offsets
+     */
+    List<DecodedRecord<R>> compact(List<R> records) {
+        // Slots of the dropped or moved events are cleared, and removed once the whole batch is compacted
+        List<DecodedRecord<R>> events = new ArrayList<>(records.size());
+        Map<List<Object>, Chain> chains = new HashMap<>();
+        for (R record : records) {
+            Payload payload = decode(record);
+            List<Object> chainKey = payload == null ? null : getChainKey(record, payload);
+            if (chainKey == null) {
+                if (payload != null && TRUNCATE.equals(payload.getOp())) {
+                    // Events after a truncation are not compacted with the events before it
+                    chains.clear();
+                }
+                events.add(new DecodedRecord<>(record, payload));
+                continue;
+            }
+
+            String op = payload.getOp();
+            Chain chain = chains.get(chainKey);
+            if (chain != null && (UPDATE.equals(op) || DELETE.equals(op))) {
+                events.set(chain.slot, null);
+                chain.last = payload;
+                if (DELETE.equals(op)) {
+                    chains.remove(chainKey);
+                    if (!UPDATE.equals(chain.op)) {
+                        // The row is created and deleted within the batch
+                        continue;
+                    }
+                    chain.op = DELETE;
+                }
+                chain.slot = events.size();
+                events.add(new DecodedRecord<>(record, chain.getPayload()));
+            } else if (DELETE.equals(op)) {
+                chains.remove(chainKey);
+                events.add(new DecodedRecord<>(record, payload));
+            } else {
+                chains.put(chainKey, new Chain(op, payload, events.size()));
+                events.add(new DecodedRecord<>(record, payload));
+            }
+        }
+        events.removeIf(Objects::isNull);
+        return events;
+    }
+
+    private Payload decode(R record) {
+        try {
+            return this.decoder.decode(record);
+        } catch (Exception e) {
+            // The event is dispatched without compaction, and the decoding failure is reported when it is dispatched
+            return null;
+        }
+    }
+
+    // Returns the key of the row of the change event, or null if the change event is not compacted
+    private List<Object> getChainKey(R record, Payload payload) {
+        String op = payload.getOp();
+        if (this.skippedOperations.contains(op) || !(CREATE.equals(op) || READ.equals(op) || UPDATE.equals(op) ||
+                DELETE.equals(op))) {
+            return null;
+        }
+        Service service = this.serviceResolver.apply(record, payload);
+        if (service == null || !service.isCompacted()) {
+            return null;
+        }
+        Object key = this.decoder.getKey(record);
+        if (key == null) {
+            // Rows of tables without a primary key cannot be told apart
+            return null;
+        }
+        return Arrays.asList(payload.getDatabase(), payload.getSchema(), payload.getTable(), key);
+    }
+
+    private static final class Chain {
+
+        private String op;
+        private final Payload first;
+        private Payload last;
+        private int slot;
+
+        private Chain(String op, Payload first, int slot) {
+            this.op = op;
+            this.first = first;
+            this.last = first;
+            this.slot = slot;
+        }
+
+        private Payload getPayload() {
+            return this.first == this.last ? this.first : new CompactedPayload(this.op, this.first, this.last);
+        }
+    }
+}
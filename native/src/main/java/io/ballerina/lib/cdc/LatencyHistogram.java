@@ -0,0 +1,121 @@
+/**
+ * Copyright (c) 2025, WSO2 LLC. (https://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.ballerina.lib.cdc;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A histogram of latencies in microseconds, which can be recorded concurrently without locking.
+ * <p>
+ * The values are counted in buckets of a logarithmic scale, in the manner of an HDR histogram. The values below
+ * {@code 64} are counted exactly, and each power of two above is split into {@code 32} buckets, so that the
+ * percentiles are reported within about 3% of the recorded values, with a fixed memory footprint. The values above
+ * about twelve days are counted in the highest bucket.
+ */
+class LatencyHistogram {
+
+    private static final int SUB_BUCKET_BITS = 5;
+    private static final int SUB_BUCKET_COUNT = 1 << SUB_BUCKET_BITS;
+    private static final int EXACT_LIMIT = SUB_BUCKET_COUNT * 2;
+    private static final long HIGHEST_TRACKABLE_VALUE = (1L << 40) - 1;
+    private static final int BUCKET_COUNT = bucketIndex(HIGHEST_TRACKABLE_VALUE) + 1;
+
+    private final AtomicLongArray buckets = new AtomicLongArray(BUCKET_COUNT);
+    private final LongAdder count = new LongAdder();
+    private final LongAdder sum = new LongAdder();
+    private final LongAccumulator max = new LongAccumulator(Math::max, 0);
+
+    /**
+     * Records a latency.
+     *
+     * @param micros The latency in microseconds, where negative values, such as those caused by clock skew between
+     *               the database and the listener, are recorded as zero
+     */
+    void record(long micros) {
+        long value = Math.min(Math.max(micros, 0), HIGHEST_TRACKABLE_VALUE);
+        this.buckets.incrementAndGet(bucketIndex(value));
+        this.count.increment();
+        this.sum.add(value);
+        this.max.accumulate(value);
+    }
+
+    /**
+     * Takes a snapshot of the recorded latencies. As the latencies may be recorded while the snapshot is taken, the
+     * snapshot is not guaranteed to be exact.
+     *
+     * @param percentiles The percentiles to report, each between {@code 0} and {@code 1}
+     * @return The snapshot of the recorded latencies
+     */
+    Snapshot snapshot(double... percentiles) {
+        long[] counts = new long[BUCKET_COUNT];
+        long total = 0;
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            counts[i] = this.buckets.get(i);
+            total += counts[i];
+        }
+        long[] values = new long[percentiles.length];
+        for (int p = 0; p < percentiles.length; p++) {
+            long rank = Math.max(1, (long) Math.ceil(percentiles[p] * total));
+            long seen = 0;
+            for (int i = 0; i < BUCKET_COUNT && total > 0; i++) {
+                seen += counts[i];
+                if (seen >= rank) {
+                    values[p] = bucketValue(i);
+                    break;
+                }
+            }
+        }
+        long recorded = this.count.sum();
+        long mean = recorded == 0 ? 0 : this.sum.sum() / recorded;
+        return new Snapshot(recorded, mean, Math.min(this.max.get(), HIGHEST_TRACKABLE_VALUE), values);
+    }
+
+    // Below the exact limit, the index is the value itself. Above, the index is offset by the power of two of the
+    // value, and the position of the value within the sub-buckets of that power of two
+    private static int bucketIndex(long value) {
+        if (value < EXACT_LIMIT) {
+            return (int) value;
+        }
+        int shift = 63 - Long.numberOfLeadingZeros(value) - SUB_BUCKET_BITS;
+        return EXACT_LIMIT + (shift - 1) * SUB_BUCKET_COUNT + (int) ((value >>> shift) - SUB_BUCKET_COUNT);
+    }
+
+    // Returns the middle of the range of values counted in the bucket
+    private static long bucketValue(int index) {
+        if (index < EXACT_LIMIT) {
+            return index;
+        }
+        int offset = index - EXACT_LIMIT;
+        int shift = offset / SUB_BUCKET_COUNT + 1;
+        long lowest = (long) (offset % SUB_BUCKET_COUNT + SUB_BUCKET_COUNT) << shift;
+        return lowest + (1L << (shift - 1));
+    }
+
+    /**
+     * A snapshot of the recorded latencies, in microseconds.
+     *
+     * @param count       The number of recorded latencies
+     * @param mean        The mean of the recorded latencies
+     * @param max         The highest recorded latency
+     * @param percentiles The latencies at the requested percentiles
+     */
+    record Snapshot(long count, long mean, long max, long[] percentiles) {
+    }
+}
@@ -17,11 +17,26 @@
  */
 package io.ballerina.lib.cdc;
 
+import com.google.gson.JsonArray;
+import com.google.gson.JsonObject;
+import io.ballerina.lib.cdc.decoder.ConnectEventDecoder;
+import io.ballerina.lib.cdc.decoder.JsonByteArrayEventDecoder;
+import io.ballerina.lib.cdc.decoder.JsonEventDecoder;
+import io.ballerina.lib.cdc.models.DispatchOptions;
 import io.ballerina.lib.cdc.models.Service;
 import io.ballerina.lib.cdc.utils.Constants.BallerinaErrors;
+import io.ballerina.lib.cdc.utils.Constants.DebeziumOperation;
+import io.ballerina.lib.cdc.utils.Constants.EventFormats;
+import io.ballerina.lib.cdc.utils.Constants.ListenerProperties;
+import io.ballerina.lib.cdc.utils.Constants.OffsetCommitPolicies;
+import io.ballerina.lib.cdc.utils.Constants.PartitionStrategies;
+import io.ballerina.lib.cdc.utils.Constants.ServiceMethodNames;
 import io.ballerina.lib.cdc.utils.ErrorUtils;
 import io.ballerina.runtime.api.Environment;
+import io.ballerina.runtime.api.creators.TypeCreator;
+import io.ballerina.runtime.api.creators.ValueCreator;
 import io.ballerina.runtime.api.types.ObjectType;
+import io.ballerina.runtime.api.types.PredefinedTypes;
 import io.ballerina.runtime.api.types.TypeTags;
 import io.ballerina.runtime.api.utils.StringUtils;
 import io.ballerina.runtime.api.utils.TypeUtils;
@@ -29,26 +44,66 @@ import io.ballerina.runtime.api.values.BArray;
 import io.ballerina.runtime.api.values.BMap;
 import io.ballerina.runtime.api.values.BObject;
 import io.ballerina.runtime.api.values.BString;
-import io.debezium.engine.ChangeEvent;
 import io.debezium.engine.DebeziumEngine;
+import io.debezium.engine.format.ChangeEventFormat;
+import io.debezium.engine.format.Connect;
 import io.debezium.engine.format.Json;
+import io.debezium.engine.format.JsonByteArray;
+import io.debezium.engine.spi.OffsetCommitPolicy;
 
 import java.io.IOException;
+import java.math.BigDecimal;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.Properties;
+import java.util.Set;
 import java.util.UUID;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+import java.util.regex.Pattern;
 
+import static io.ballerina.lib.cdc.utils.Constants.ANN_CONFIG_COMPACT;
 import static io.ballerina.lib.cdc.utils.Constants.ANN_CONFIG_TABLES;
 import static io.ballerina.lib.cdc.utils.Constants.ANN_NAME_EVENTS_FROM;
+import static io.ballerina.lib.cdc.utils.Constants.ASYNC_ENGINE_BUILDER_FACTORY;
 import static io.ballerina.lib.cdc.utils.Constants.COLON;
+import static io.ballerina.lib.cdc.utils.Constants.CONVERTER_SCHEMAS_ENABLE;
+import static io.ballerina.lib.cdc.utils.Constants.ENGINE_BUILDER_FACTORY;
+import static io.ballerina.lib.cdc.utils.Constants.ENGINE_NAME;
+import static io.ballerina.lib.cdc.utils.Constants.EXECUTE_SNAPSHOT_SIGNAL;
+import static io.ballerina.lib.cdc.utils.Constants.INCREMENTAL_SNAPSHOT;
+import static io.ballerina.lib.cdc.utils.Constants.IN_PROCESS_SIGNAL_CHANNEL;
+import static io.ballerina.lib.cdc.utils.Constants.RECORD_PROCESSING_THREADS;
+import static io.ballerina.lib.cdc.utils.Constants.RECORD_PROCESSING_WITH_SERIAL_CONSUMER;
 import static io.ballerina.lib.cdc.utils.Constants.SERVICE_MAP_ALL_KEY;
+import static io.ballerina.lib.cdc.utils.Constants.SIGNAL_DATA_COLLECTIONS;
+import static io.ballerina.lib.cdc.utils.Constants.SIGNAL_ENABLED_CHANNELS;
+import static io.ballerina.lib.cdc.utils.Constants.SIGNAL_SNAPSHOT_TYPE;
+import static io.ballerina.lib.cdc.utils.Constants.SKIPPED_OPERATIONS;
+import static io.ballerina.lib.cdc.utils.Constants.SKIPPED_OPERATIONS_NONE;
+import static io.ballerina.lib.cdc.utils.Constants.STAGE_LATENCY;
+import static io.ballerina.lib.cdc.utils.Constants.STAGE_LATENCY_COUNT;
+import static io.ballerina.lib.cdc.utils.Constants.STAGE_LATENCY_MAX;
+import static io.ballerina.lib.cdc.utils.Constants.STAGE_LATENCY_MEAN;
+import static io.ballerina.lib.cdc.utils.Constants.STAGE_LATENCY_METHOD;
+import static io.ballerina.lib.cdc.utils.Constants.STAGE_LATENCY_P50;
+import static io.ballerina.lib.cdc.utils.Constants.STAGE_LATENCY_P90;
+import static io.ballerina.lib.cdc.utils.Constants.STAGE_LATENCY_P99;
+import static io.ballerina.lib.cdc.utils.Constants.STAGE_LATENCY_STAGE;
+import static io.ballerina.lib.cdc.utils.Constants.STAGE_LATENCY_TABLE_NAME;
+import static io.ballerina.lib.cdc.utils.Constants.TABLE_EXCLUDE_LIST;
+import static io.ballerina.lib.cdc.utils.Constants.TABLE_INCLUDE_LIST;
+import static io.ballerina.lib.cdc.utils.Constants.TRANSFORMS;
 import static io.ballerina.lib.cdc.utils.ErrorUtils.createCdcError;
 import static io.ballerina.lib.cdc.utils.ErrorUtils.createError;
+import static io.ballerina.lib.cdc.utils.ModuleUtils.getModule;
 import static io.ballerina.lib.cdc.utils.ModuleUtils.getPackageIdentifier;
 import static io.debezium.engine.DebeziumEngine.create;
 
@@ -62,6 +117,8 @@ public class Listener {
     public static final String EXECUTOR_SERVICE_KEY = "ExecutorService";
     public static final String IS_STARTED_KEY = "isStarted";
     public static final String HAS_ATTACHED_SERVICE_KEY = "hasAttachedService";
+    public static final String LISTENER_METRICS_KEY = "ListenerMetrics";
+    public static final String IS_SIGNALED_KEY = "isSignaled";
     public static final String LISTENER_ID = "Id";
     private static final ConcurrentHashMap<Object, ReentrantLock> lockMap = new ConcurrentHashMap<>();
 
@@ -152,37 +209,74 @@ public class Listener {
             }
 
             Properties engineProperties = populateEngineProperties(config);
+            Map<String, String> listenerProperties = populateListenerProperties(config);
             @SuppressWarnings("unchecked")
             ConcurrentHashMap<String, Service> serviceMap = (ConcurrentHashMap<String, Service>) listener
                     .getNativeData(TABLE_TO_SERVICE_MAP_KEY);
 
+            includeServiceTables(engineProperties, serviceMap);
+            Set<String> skippedOperations = skipUnimplementedOperations(engineProperties, serviceMap);
+            Object dispatchError = validateDispatchOptions(listenerProperties);
+            if (dispatchError != null) {
+                return dispatchError;
+            }
+            DispatchOptions dispatchOptions = getDispatchOptions(listenerProperties);
+            if ((dispatchOptions.isConcurrent() || dispatchOptions.isAsynchronous())
+                    && !isConcurrencySafe(serviceMap)) {
+                return ErrorUtils.createError(BallerinaErrors.OPERATION_NOT_PERMITTED_ERROR,
+                        "Concurrent dispatch requires the attached services and their methods to be isolated.");
+            }
+            if (dispatchOptions.isAsynchronous() && hasBatchService(serviceMap)) {
+                return ErrorUtils.createError(BallerinaErrors.OPERATION_NOT_PERMITTED_ERROR,
+                        "Asynchronous dispatch cannot be used with services that implement 'onBatch'.");
+            }
+            // The asynchronous engine delivers the events one at a time, on its own record processing threads
+            boolean isAsyncEngine = Boolean.parseBoolean(listenerProperties.get(ListenerProperties.ASYNC_ENGINE));
+            if (isAsyncEngine) {
+                Object error = validateAsyncEngine(engineProperties, serviceMap, dispatchOptions);
+                if (error != null) {
+                    return error;
+                }
+            }
+
+            String startOffset = listenerProperties.get(ListenerProperties.START_POSITION_OFFSET);
+            if (startOffset != null) {
+                OffsetSeeder.seed(engineProperties,
+                        listenerProperties.get(ListenerProperties.START_POSITION_PARTITION), startOffset);
+            }
+
             CompletableFuture<EngineResult> comFuture = new CompletableFuture<>();
             ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
-            DebeziumEngine<ChangeEvent<String, String>> engine = create(Json.class)
-                    .using(engineProperties)
-                    .notifying(new BalChangeConsumer(serviceMap, environment.getRuntime()))
-                    .using(new DebeziumEngine.ConnectorCallback() {
-                        @Override
-                        public void taskStarted() {
-                            EngineResult result = new EngineResult();
-                            result.success = true;
-                            comFuture.complete(result);
-                        }
-                    })
-                    .using((success, message, error) -> {
-                        EngineResult result = new EngineResult();
-                        result.success = success;
-                        result.message = message;
-                        result.error = error;
-                        comFuture.complete(result);
-                    })
-                    .build();
+            String eventFormat = listenerProperties.getOrDefault(ListenerProperties.EVENT_FORMAT, EventFormats.JSON);
+            boolean schemasEnabled = Boolean.parseBoolean(
+                    engineProperties.getProperty(CONVERTER_SCHEMAS_ENABLE, "true"));
+            // Transformations may merge the events of several tables into a single destination
+            boolean isRoutedByDestination = !engineProperties.containsKey(TRANSFORMS);
+            OffsetCommitPolicy commitPolicy = getOffsetCommitPolicy(listenerProperties, engineProperties);
+            String builderFactory = isAsyncEngine ? ASYNC_ENGINE_BUILDER_FACTORY : ENGINE_BUILDER_FACTORY;
+            ListenerMetrics metrics = ListenerMetrics.create(engineProperties.getProperty(ENGINE_NAME));
+            DebeziumEngine<?> engine = switch (eventFormat) {
+                case EventFormats.JSON_BYTES -> buildEngine(create(JsonByteArray.class, builderFactory),
+                        engineProperties, commitPolicy, new BalChangeConsumer<>(serviceMap, environment.getRuntime(),
+                                new JsonByteArrayEventDecoder(schemasEnabled), isRoutedByDestination,
+                                skippedOperations, dispatchOptions, metrics), isAsyncEngine, comFuture);
+                case EventFormats.CONNECT -> buildEngine(create(ChangeEventFormat.of(Connect.class), builderFactory),
+                        engineProperties, commitPolicy, new BalChangeConsumer<>(serviceMap, environment.getRuntime(),
+                                new ConnectEventDecoder(), isRoutedByDestination,
+                                skippedOperations, dispatchOptions, metrics), isAsyncEngine, comFuture);
+                default -> buildEngine(create(Json.class, builderFactory), engineProperties, commitPolicy,
+                        new BalChangeConsumer<>(serviceMap, environment.getRuntime(),
+                                new JsonEventDecoder(schemasEnabled), isRoutedByDestination,
+                                skippedOperations, dispatchOptions, metrics), isAsyncEngine, comFuture);
+            };
             executor.submit(engine);
 
             EngineResult engineResult = comFuture.get();
             if (engineResult.success) {
                 listener.addNativeData(DEBEZIUM_ENGINE_KEY, engine);
                 listener.addNativeData(EXECUTOR_SERVICE_KEY, executor);
+                listener.addNativeData(LISTENER_METRICS_KEY, metrics);
+                listener.addNativeData(IS_SIGNALED_KEY, isInProcessSignalEnabled(engineProperties));
             } else {
                 String errorMessage = engineResult.message != null ? engineResult.message
                         : (engineResult.error != null ? engineResult.error.getMessage() : "Unknown error");
@@ -247,6 +341,97 @@ public class Listener {
         }
     }
 
+    public static Object snapshot(BObject listener, BArray tables) {
+        String id = getListenerId(listener);
+        ReentrantLock lock = lockMap.computeIfAbsent(id, k -> new ReentrantLock());
+
+        lock.lock();
+        try {
+            Object debEngine = listener.getNativeData(DEBEZIUM_ENGINE_KEY);
+            if (debEngine == null) {
+                return createCdcError("Failed to trigger the snapshot: the listener is not started.");
+            }
+            if (tables.size() == 0) {
+                return createCdcError("Failed to trigger the snapshot: no tables are given.");
+            }
+            if (!Boolean.TRUE.equals(listener.getNativeData(IS_SIGNALED_KEY))) {
+                return createCdcError("Failed to trigger the snapshot: incremental snapshots are not enabled " +
+                        "through the 'snapshot.incremental' option of the listener.");
+            }
+
+            // The incremental snapshot is taken in chunks by the engine, interleaved with the streamed events
+            JsonArray dataCollections = new JsonArray();
+            for (String table : tables.getStringArray()) {
+                dataCollections.add(table);
+            }
+            JsonObject data = new JsonObject();
+            data.add(SIGNAL_DATA_COLLECTIONS, dataCollections);
+            data.addProperty(SIGNAL_SNAPSHOT_TYPE, INCREMENTAL_SNAPSHOT);
+            ((DebeziumEngine<?>) debEngine).getSignaler().signal(new DebeziumEngine.Signal(
+                    UUID.randomUUID().toString(), EXECUTE_SNAPSHOT_SIGNAL, data.toString(), null));
+            return null;
+        } catch (Exception e) {
+            return createCdcError("Failed to trigger the snapshot: " + e.getMessage());
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public static Object getLatencies(BObject listener) {
+        Object metrics = listener.getNativeData(LISTENER_METRICS_KEY);
+        if (metrics == null) {
+            return createCdcError("Failed to get the latencies: the listener is not started.");
+        }
+        List<ListenerMetrics.StageLatency> latencies = ((ListenerMetrics) metrics).getLatencies();
+        Object[] records = new Object[latencies.size()];
+        for (int i = 0; i < latencies.size(); i++) {
+            ListenerMetrics.StageLatency latency = latencies.get(i);
+            LatencyHistogram.Snapshot histogram = latency.histogram();
+            BMap<BString, Object> fields = ValueCreator.createMapValue();
+            fields.put(StringUtils.fromString(STAGE_LATENCY_TABLE_NAME), StringUtils.fromString(latency.table()));
+            fields.put(StringUtils.fromString(STAGE_LATENCY_METHOD), StringUtils.fromString(latency.method()));
+            fields.put(StringUtils.fromString(STAGE_LATENCY_STAGE), StringUtils.fromString(latency.stage()));
+            fields.put(StringUtils.fromString(STAGE_LATENCY_COUNT), histogram.count());
+            fields.put(StringUtils.fromString(STAGE_LATENCY_MEAN), toMillis(histogram.mean()));
+            fields.put(StringUtils.fromString(STAGE_LATENCY_P50), toMillis(histogram.percentiles()[0]));
+            fields.put(StringUtils.fromString(STAGE_LATENCY_P90), toMillis(histogram.percentiles()[1]));
+            fields.put(StringUtils.fromString(STAGE_LATENCY_P99), toMillis(histogram.percentiles()[2]));
+            fields.put(StringUtils.fromString(STAGE_LATENCY_MAX), toMillis(histogram.max()));
+            records[i] = ValueCreator.createRecordValue(getModule(), STAGE_LATENCY, fields);
+        }
+        return ValueCreator.createArrayValue(records, TypeCreator.createArrayType(
+                ValueCreator.createRecordValue(getModule(), STAGE_LATENCY).getType()));
+    }
+
+    /**
+     * Returns the engine properties with the tables and the skipped operations derived from the attached services,
+     * as they are passed to the engine when the listener is started.
+     *
+     * @param listener The listener object
+     * @param config   The configuration map of the listener
+     * @return The engine properties
+     */
+    public static Object getEngineProperties(BObject listener, BMap<BString, Object> config) {
+        Properties engineProperties = populateEngineProperties(config);
+        @SuppressWarnings("unchecked")
+        Map<String, Service> serviceMap = (Map<String, Service>) listener.getNativeData(TABLE_TO_SERVICE_MAP_KEY);
+        if (serviceMap != null) {
+            includeServiceTables(engineProperties, serviceMap);
+            skipUnimplementedOperations(engineProperties, serviceMap);
+        }
+        BMap<BString, Object> properties = ValueCreator.createMapValue(
+                TypeCreator.createMapType(PredefinedTypes.TYPE_STRING));
+        for (String name : engineProperties.stringPropertyNames()) {
+            properties.put(StringUtils.fromString(name), StringUtils.fromString(engineProperties.getProperty(name)));
+        }
+        return properties;
+    }
+
+    // The latencies are recorded in microseconds, and reported in milliseconds
+    private static Object toMillis(long micros) {
+        return ValueCreator.createDecimalValue(BigDecimal.valueOf(micros, 3));
+    }
+
     private static Object getServiceConfigAnnotation(BObject service) {
         return ((ObjectType) TypeUtils.getReferredType(TypeUtils.getType(service))).getAnnotation(
                 StringUtils.fromString(getPackageIdentifier() + COLON + ANN_NAME_EVENTS_FROM));
@@ -272,22 +457,24 @@ public class Listener {
     private static void handleUnAnnotatedServiceAttachment(Object serviceConfigAnn, BObject service,
                                                            Map<String, Service> updatedServiceMap) {
         Object tableConfig = ((BMap<?, ?>) serviceConfigAnn).get(ANN_CONFIG_TABLES);
+        boolean isCompacted = (Boolean) ((BMap<?, ?>) serviceConfigAnn).get(ANN_CONFIG_COMPACT);
         if (TypeUtils.getType(tableConfig).getTag() == TypeTags.ARRAY_TAG) {
             for (String table : ((BArray) tableConfig).getStringArray()) {
-                addServiceToMap(service, table, updatedServiceMap);
+                addServiceToMap(service, isCompacted, table, updatedServiceMap);
             }
         } else {
             String table = ((BString) tableConfig).getValue();
-            addServiceToMap(service, table, updatedServiceMap);
+            addServiceToMap(service, isCompacted, table, updatedServiceMap);
         }
     }
 
-    private static void addServiceToMap(BObject service, String table, Map<String, Service> updatedServiceMap) {
+    private static void addServiceToMap(BObject service, boolean isCompacted, String table,
+                                        Map<String, Service> updatedServiceMap) {
         if (updatedServiceMap.containsKey(table)) {
             throw createError(BallerinaErrors.OPERATION_NOT_PERMITTED_ERROR,
                     "Multiple services cannot be used to receive events from the same table '" + table + "'.");
         }
-        updatedServiceMap.put(table, new Service(service));
+        updatedServiceMap.put(table, new Service(service, isCompacted));
     }
 
     private static boolean removeSingleServiceFromMap(BObject listener, Object serviceMap) {
@@ -320,14 +507,219 @@ public class Listener {
         }
     }
 
+    private static <R> DebeziumEngine<R> buildEngine(DebeziumEngine.Builder<R> builder, Properties engineProperties,
+                                                     OffsetCommitPolicy commitPolicy, BalChangeConsumer<R> consumer,
+                                                     boolean isNotifiedPerRecord,
+                                                     CompletableFuture<EngineResult> comFuture) {
+        builder.using(engineProperties).using(commitPolicy);
+        if (isNotifiedPerRecord) {
+            builder.notifying((Consumer<R>) consumer);
+        } else {
+            builder.notifying((DebeziumEngine.ChangeConsumer<R>) consumer);
+        }
+        return builder
+                .using(new DebeziumEngine.ConnectorCallback() {
+                    @Override
+                    public void taskStarted() {
+                        EngineResult result = new EngineResult();
+                        result.success = true;
+                        comFuture.complete(result);
+                    }
+                })
+                .using((success, message, error) -> {
+                    EngineResult result = new EngineResult();
+                    result.success = success;
+                    result.message = message;
+                    result.error = error;
+                    comFuture.complete(result);
+                })
+                .build();
+    }
+
     private static Properties populateEngineProperties(BMap<BString, Object> config) {
         Properties engineProperties = new Properties();
         for (Map.Entry<BString, Object> configEntry : config.entrySet()) {
-            engineProperties.setProperty(configEntry.getKey().getValue(), configEntry.getValue().toString());
+            String key = configEntry.getKey().getValue();
+            if (!key.startsWith(ListenerProperties.PREFIX)) {
+                engineProperties.setProperty(key, configEntry.getValue().toString());
+            }
         }
         return engineProperties;
     }
 
+    // The snapshots can only be triggered through the in-process channel of the incremental snapshots
+    private static boolean isInProcessSignalEnabled(Properties engineProperties) {
+        String channels = engineProperties.getProperty(SIGNAL_ENABLED_CHANNELS, "");
+        return Arrays.stream(channels.split(",")).map(String::trim).anyMatch(IN_PROCESS_SIGNAL_CHANNEL::equals);
+    }
+
+    // Captures the tables of the attached services, so that the events of the other tables are never read
+    private static void includeServiceTables(Properties engineProperties, Map<String, Service> serviceMap) {
+        if (serviceMap.containsKey(SERVICE_MAP_ALL_KEY) || engineProperties.containsKey(TABLE_EXCLUDE_LIST)) {
+            return;
+        }
+        Set<String> includedTables = new LinkedHashSet<>();
+        String userIncludedTables = engineProperties.getProperty(TABLE_INCLUDE_LIST);
+        if (userIncludedTables != null) {
+            for (String table : userIncludedTables.split(",")) {
+                if (!table.isBlank()) {
+                    includedTables.add(table.trim());
+                }
+            }
+        }
+        for (String table : serviceMap.keySet()) {
+            String[] parts = table.split("\\.");
+            if (parts.length < 2) {
+                // The table cannot be identified without its database or schema
+                return;
+            }
+            // The connectors identify tables by the last two parts, i.e. database.table or schema.table
+            includedTables.add(Pattern.quote(parts[parts.length - 2]) + "\\."
+                    + Pattern.quote(parts[parts.length - 1]));
+        }
+        engineProperties.setProperty(TABLE_INCLUDE_LIST, String.join(",", includedTables));
+    }
+
+    // Skips the operations which are not implemented by any of the attached services, along with the operations
+    // skipped by the user, so that the connector does not emit events which cannot be dispatched
+    private static Set<String> skipUnimplementedOperations(Properties engineProperties,
+                                                           Map<String, Service> serviceMap) {
+        Set<String> skippedOperations = new LinkedHashSet<>();
+        String userSkippedOperations = engineProperties.getProperty(SKIPPED_OPERATIONS);
+        if (userSkippedOperations != null) {
+            for (String operation : userSkippedOperations.split(",")) {
+                if (!operation.isBlank() && !operation.trim().equals(SKIPPED_OPERATIONS_NONE)) {
+                    skippedOperations.add(operation.trim());
+                }
+            }
+        }
+        addIfNotImplemented(skippedOperations, serviceMap, DebeziumOperation.CREATE, ServiceMethodNames.ON_CREATE);
+        addIfNotImplemented(skippedOperations, serviceMap, DebeziumOperation.UPDATE, ServiceMethodNames.ON_UPDATE);
+        addIfNotImplemented(skippedOperations, serviceMap, DebeziumOperation.DELETE, ServiceMethodNames.ON_DELETE);
+        addIfNotImplemented(skippedOperations, serviceMap, DebeziumOperation.TRUNCATE,
+                ServiceMethodNames.ON_TRUNCATE);
+        engineProperties.setProperty(SKIPPED_OPERATIONS, skippedOperations.isEmpty() ? SKIPPED_OPERATIONS_NONE
+                : String.join(",", skippedOperations));
+        return skippedOperations;
+    }
+
+    private static void addIfNotImplemented(Set<String> skippedOperations, Map<String, Service> serviceMap,
+                                            String operation, String methodName) {
+        for (Service service : serviceMap.values()) {
+            if (service.getMethod(methodName) != null || service.getBatchMethod() != null) {
+                return;
+            }
+        }
+        skippedOperations.add(operation);
+    }
+
+    // The offsets of the events marked as processed are committed according to the policy
+    private static OffsetCommitPolicy getOffsetCommitPolicy(Map<String, String> listenerProperties,
+                                                            Properties engineProperties) {
+        String policy = listenerProperties.getOrDefault(ListenerProperties.OFFSET_COMMIT_POLICY,
+                OffsetCommitPolicies.PERIODIC);
+        return switch (policy) {
+            case OffsetCommitPolicies.EVERY_BATCH -> OffsetCommitPolicy.always();
+            case OffsetCommitPolicies.EVERY_RECORD_COUNT -> {
+                long recordCount = Long.parseLong(
+                        listenerProperties.get(ListenerProperties.OFFSET_COMMIT_RECORD_COUNT));
+                yield (numberOfMessagesSinceLastCommit, timeSinceLastCommit) ->
+                        numberOfMessagesSinceLastCommit >= recordCount;
+            }
+            default -> OffsetCommitPolicy.periodic(engineProperties);
+        };
+    }
+
+    private static DispatchOptions getDispatchOptions(Map<String, String> listenerProperties) {
+        String maxInFlight = listenerProperties.get(ListenerProperties.DISPATCH_MAX_IN_FLIGHT);
+        if (maxInFlight != null) {
+            return DispatchOptions.asynchronous(Integer.parseInt(maxInFlight));
+        }
+        String decodeWorkers = listenerProperties.get(ListenerProperties.DISPATCH_DECODE_WORKERS);
+        if (decodeWorkers != null) {
+            return DispatchOptions.pipelined(Integer.parseInt(decodeWorkers),
+                    Integer.parseInt(listenerProperties.get(ListenerProperties.DISPATCH_BUFFER_SIZE)));
+        }
+        String lanes = listenerProperties.get(ListenerProperties.DISPATCH_LANES);
+        if (lanes == null) {
+            return DispatchOptions.SEQUENTIAL;
+        }
+        String partitionBy = listenerProperties.getOrDefault(ListenerProperties.DISPATCH_PARTITION_BY,
+                PartitionStrategies.BY_TABLE);
+        return DispatchOptions.partitioned(Integer.parseInt(lanes), PartitionStrategies.BY_KEY.equals(partitionBy));
+    }
+
+    // Rejects the sizes of the dispatch which would otherwise fall back to sequential dispatch or fail on the engine
+    // thread, such as an empty buffer of decoded events
+    private static Object validateDispatchOptions(Map<String, String> listenerProperties) {
+        String[][] sizes = {
+                {ListenerProperties.DISPATCH_LANES, "lanes"},
+                {ListenerProperties.DISPATCH_MAX_IN_FLIGHT, "maxInFlight"},
+                {ListenerProperties.DISPATCH_DECODE_WORKERS, "decodeWorkers"},
+                {ListenerProperties.DISPATCH_BUFFER_SIZE, "bufferSize"}
+        };
+        for (String[] size : sizes) {
+            String value = listenerProperties.get(size[0]);
+            if (value != null && Integer.parseInt(value) < 1) {
+                return ErrorUtils.createError(BallerinaErrors.OPERATION_NOT_PERMITTED_ERROR,
+                        "The '" + size[1] + "' of the 'dispatch' option must be greater than zero.");
+            }
+        }
+        return null;
+    }
+
+    private static Object validateAsyncEngine(Properties engineProperties, Map<String, Service> serviceMap,
+                                              DispatchOptions dispatchOptions) {
+        if (!DispatchOptions.SEQUENTIAL.equals(dispatchOptions)) {
+            return ErrorUtils.createError(BallerinaErrors.OPERATION_NOT_PERMITTED_ERROR,
+                    "The 'dispatch' option cannot be used along with 'recordProcessing'.");
+        }
+        for (Service service : serviceMap.values()) {
+            if (service.getBatchMethod() != null || service.isCompacted()) {
+                return ErrorUtils.createError(BallerinaErrors.OPERATION_NOT_PERMITTED_ERROR,
+                        "The 'recordProcessing' option cannot be used with services that implement 'onBatch' " +
+                                "or compact their events.");
+            }
+        }
+        boolean isSerialConsumer = Boolean.parseBoolean(
+                engineProperties.getProperty(RECORD_PROCESSING_WITH_SERIAL_CONSUMER));
+        boolean isSingleThreaded = "1".equals(engineProperties.getProperty(RECORD_PROCESSING_THREADS));
+        if (!isSerialConsumer && !isSingleThreaded && !isConcurrencySafe(serviceMap)) {
+            return ErrorUtils.createError(BallerinaErrors.OPERATION_NOT_PERMITTED_ERROR,
+                    "Concurrent dispatch requires the attached services and their methods to be isolated.");
+        }
+        return null;
+    }
+
+    private static boolean hasBatchService(Map<String, Service> serviceMap) {
+        for (Service service : serviceMap.values()) {
+            if (service.getBatchMethod() != null) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static boolean isConcurrencySafe(Map<String, Service> serviceMap) {
+        for (Service service : serviceMap.values()) {
+            if (!service.isConcurrencySafe()) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static Map<String, String> populateListenerProperties(BMap<BString, Object> config) {
+        Map<String, String> listenerProperties = new HashMap<>();
+        for (Map.Entry<BString, Object> configEntry : config.entrySet()) {
+            String key = configEntry.getKey().getValue();
+            if (key.startsWith(ListenerProperties.PREFIX)) {
+                listenerProperties.put(key, configEntry.getValue().toString());
+            }
+        }
+        return listenerProperties;
+    }
+
     private static String getListenerId(BObject listener) {
         Object idObj = listener.getNativeData(LISTENER_ID);
         String id;
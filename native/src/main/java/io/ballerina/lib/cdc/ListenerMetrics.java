@@ -0,0 +1,389 @@
+/**
+ * Copyright (c) 2025, WSO2 LLC. (https://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.ballerina.lib.cdc;
+
+import io.ballerina.lib.cdc.models.Payload;
+import io.ballerina.lib.cdc.utils.Constants.DebeziumOperation;
+import io.ballerina.runtime.observability.ObserveUtils;
+import io.ballerina.runtime.observability.metrics.Counter;
+import io.ballerina.runtime.observability.metrics.DefaultMetricRegistry;
+import io.ballerina.runtime.observability.metrics.Gauge;
+import io.ballerina.runtime.observability.metrics.MetricId;
+import io.ballerina.runtime.observability.metrics.MetricRegistry;
+import io.ballerina.runtime.observability.metrics.StatisticConfig;
+import io.ballerina.runtime.observability.metrics.Tag;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Publishes the metrics of a listener through the Ballerina observability metrics registry.
+ * <p>
+ * The counters of the change events are tagged with the fully-qualified table and the operation of the events. They
+ * are registered once per table and operation, and resolved by the consumer once per event destination, so that
+ * counting an event only increments a counter, which is striped over the threads that increment it. Nothing is
+ * recorded unless the metrics are enabled.
+ * <p>
+ * The latencies of the stages through which a change event is processed are recorded per fully-qualified table and
+ * service method, in histograms which are kept regardless of the metrics being enabled, so that they are available
+ * through the listener as well. The stages are measured from the timestamps carried by the change event, and the
+ * times at which the listener receives, decodes, dispatches and completes the event.
+ */
+class ListenerMetrics {
+
+    static final String EVENTS_RECEIVED = "cdc_events_received_total";
+    static final String EVENTS_DISPATCHED = "cdc_events_dispatched_total";
+    static final String EVENTS_FAILED = "cdc_events_failed_total";
+    static final String EVENTS_SKIPPED = "cdc_events_skipped_total";
+    static final String BATCHES = "cdc_batches_total";
+    static final String BATCH_SIZE = "cdc_batch_size";
+    static final String HANDLERS_IN_FLIGHT = "cdc_handlers_in_flight";
+    static final String STAGE_LATENCY = "cdc_stage_latency_ms";
+
+    private static final String LISTENER_TAG = "listener";
+    private static final String TABLE_TAG = "table";
+    private static final String OPERATION_TAG = "op";
+    private static final String METHOD_TAG = "method";
+    private static final String STAGE_TAG = "stage";
+    private static final String UNKNOWN = "unknown";
+    private static final String[] OPERATIONS = {DebeziumOperation.READ, DebeziumOperation.CREATE,
+            DebeziumOperation.UPDATE, DebeziumOperation.DELETE, DebeziumOperation.TRUNCATE};
+    private static final double[] PERCENTILES = {0.5, 0.9, 0.99};
+    private static final StatisticConfig[] LATENCY_STATISTICS = {
+            StatisticConfig.builder()
+                    .expiry(Duration.ofMinutes(1))
+                    .percentiles(StatisticConfig.DEFAULT.getPercentiles())
+                    .build()
+    };
+
+    private final boolean isEnabled;
+    private final String listenerName;
+    private final MetricRegistry registry;
+    private final Map<String, TableMetrics> tables = new ConcurrentHashMap<>();
+    private final Counter batches;
+    private final Gauge batchSize;
+    private final Gauge handlersInFlight;
+
+    private ListenerMetrics(boolean isEnabled, String listenerName) {
+        this.isEnabled = isEnabled;
+        this.listenerName = listenerName == null ? UNKNOWN : listenerName;
+        if (!isEnabled) {
+            this.registry = null;
+            this.batches = null;
+            this.batchSize = null;
+            this.handlersInFlight = null;
+            return;
+        }
+        this.registry = DefaultMetricRegistry.getInstance();
+        Set<Tag> tags = Set.of(Tag.of(LISTENER_TAG, this.listenerName));
+        this.batches = this.registry.counter(new MetricId(BATCHES,
+                "The number of batches of change events received from the engine", tags));
+        this.batchSize = this.registry.gauge(new MetricId(BATCH_SIZE,
+                "The number of change events in the last batch received from the engine", tags));
+        this.handlersInFlight = this.registry.gauge(new MetricId(HANDLERS_IN_FLIGHT,
+                "The number of service methods which are being invoked", tags));
+    }
+
+    /**
+     * Creates the metrics of a listener, which record nothing if the metrics are not enabled.
+     *
+     * @param listenerName The name of the engine of the listener, which tags the metrics
+     * @return The metrics of the listener
+     */
+    static ListenerMetrics create(String listenerName) {
+        return new ListenerMetrics(ObserveUtils.isMetricsEnabled(), listenerName);
+    }
+
+    void onBatch(int size) {
+        if (!this.isEnabled) {
+            return;
+        }
+        this.batches.increment();
+        this.batchSize.setValue(size);
+    }
+
+    /**
+     * Resolves the metrics of the change events of a table, which are created once per table.
+     *
+     * @param table The fully-qualified name of the table, or null if the table of the change events is not known
+     * @return The metrics of the change events of the table
+     */
+    TableMetrics getTableMetrics(String table) {
+        String tableName = table == null ? UNKNOWN : table;
+        TableMetrics tableMetrics = this.tables.get(tableName);
+        return tableMetrics != null ? tableMetrics : this.tables.computeIfAbsent(tableName, TableMetrics::new);
+    }
+
+    void onHandlerStarted() {
+        if (this.isEnabled) {
+            this.handlersInFlight.increment();
+        }
+    }
+
+    void onHandlerCompleted() {
+        if (this.isEnabled) {
+            this.handlersInFlight.decrement();
+        }
+    }
+
+    /**
+     * Takes a snapshot of the latencies of the stages recorded so far, per fully-qualified table and service method.
+     *
+     * @return The latencies of the stages which have recorded at least one change event
+     */
+    List<StageLatency> getLatencies() {
+        List<StageLatency> snapshot = new ArrayList<>();
+        for (TableMetrics tableMetrics : this.tables.values()) {
+            for (StageLatencies stageLatencies : tableMetrics.latencies.values()) {
+                for (LatencyStage stage : LatencyStage.values()) {
+                    LatencyHistogram.Snapshot histogram =
+                            stageLatencies.histograms[stage.ordinal()].snapshot(PERCENTILES);
+                    if (histogram.count() > 0) {
+                        snapshot.add(new StageLatency(stageLatencies.table, stageLatencies.method, stage.tag,
+                                histogram));
+                    }
+                }
+            }
+        }
+        return snapshot;
+    }
+
+    private static long toMicros(long nanos) {
+        return TimeUnit.NANOSECONDS.toMicros(nanos);
+    }
+
+    private static void increment(Counter counter) {
+        if (counter != null) {
+            counter.increment();
+        }
+    }
+
+    private static int getOperationIndex(String op) {
+        for (int i = 0; i < OPERATIONS.length; i++) {
+            if (OPERATIONS[i].equals(op)) {
+                return i;
+            }
+        }
+        return OPERATIONS.length;
+    }
+
+    /**
+     * The stages through which a change event is processed.
+     */
+    enum LatencyStage {
+        // From the commit of the change in the source database, to the processing of the change by the connector
+        SOURCE("source"),
+        // From the processing of the change by the connector, to the receipt of the change event by the listener
+        QUEUE("queue"),
+        // The time which the change event waits in the listener, from its receipt to the invocation of the service
+        // method, other than the time taken to decode it. This includes waiting for the earlier events of the batch
+        // and waiting in the buffer of the decoded events
+        WAIT("wait"),
+        // From the start of the decoding of the change event, to the binding of the change event to the service method
+        DECODE("decode"),
+        // From the invocation of the service method, to the return of the service method
+        HANDLER("handler"),
+        // From the commit of the change in the source database, to the return of the service method
+        END_TO_END("end_to_end");
+
+        private final String tag;
+
+        LatencyStage(String tag) {
+            this.tag = tag;
+        }
+    }
+
+    /**
+     * A snapshot of the latencies of a stage, recorded for the change events of a table processed by a service
+     * method.
+     *
+     * @param table     The fully-qualified name of the table
+     * @param method    The name of the service method
+     * @param stage     The name of the stage
+     * @param histogram The snapshot of the latencies, in microseconds
+     */
+    record StageLatency(String table, String method, String stage, LatencyHistogram.Snapshot histogram) {
+    }
+
+    /**
+     * The metrics of the change events of a table, which resolve the counters of each operation once, and keep the
+     * latencies of the stages per service method.
+     */
+    final class TableMetrics {
+
+        private final String table;
+        private final Map<String, StageLatencies> latencies = new ConcurrentHashMap<>();
+        // The counters of the operations, along with the counters of the events of unknown operations in the last slot
+        private final AtomicReferenceArray<EventMetrics> operations =
+                new AtomicReferenceArray<>(OPERATIONS.length + 1);
+
+        private TableMetrics(String table) {
+            this.table = table;
+        }
+
+        /**
+         * Resolves the counters of the change events of the table with the given operation.
+         *
+         * @param op The operation of the change events, or null if the operation is not known
+         * @return The counters of the change events
+         */
+        EventMetrics forOperation(String op) {
+            int index = getOperationIndex(op);
+            EventMetrics eventMetrics = this.operations.get(index);
+            if (eventMetrics == null) {
+                String operationTag = index < OPERATIONS.length ? OPERATIONS[index] : UNKNOWN;
+                this.operations.compareAndSet(index, null, new EventMetrics(this, operationTag));
+                eventMetrics = this.operations.get(index);
+            }
+            return eventMetrics;
+        }
+
+        // The latencies are looked up before they are created, as the function which creates them is allocated per call
+        private StageLatencies getStageLatencies(String method) {
+            StageLatencies stageLatencies = this.latencies.get(method);
+            return stageLatencies != null ? stageLatencies
+                    : this.latencies.computeIfAbsent(method, key -> new StageLatencies(this.table, method));
+        }
+    }
+
+    /**
+     * The counters of the change events of a table with an operation, which are registered once.
+     */
+    final class EventMetrics {
+
+        private final TableMetrics tableMetrics;
+        private final Counter received;
+        private final Counter dispatched;
+        private final Counter failed;
+        private final Counter skipped;
+
+        private EventMetrics(TableMetrics tableMetrics, String op) {
+            this.tableMetrics = tableMetrics;
+            if (!isEnabled) {
+                this.received = null;
+                this.dispatched = null;
+                this.failed = null;
+                this.skipped = null;
+                return;
+            }
+            Set<Tag> tags = Set.of(Tag.of(LISTENER_TAG, listenerName), Tag.of(TABLE_TAG, tableMetrics.table),
+                    Tag.of(OPERATION_TAG, op));
+            this.received = registry.counter(new MetricId(EVENTS_RECEIVED,
+                    "The number of change events received from the engine", tags));
+            this.dispatched = registry.counter(new MetricId(EVENTS_DISPATCHED,
+                    "The number of change events processed by the attached services", tags));
+            this.failed = registry.counter(new MetricId(EVENTS_FAILED,
+                    "The number of change events which failed to be processed", tags));
+            this.skipped = registry.counter(new MetricId(EVENTS_SKIPPED,
+                    "The number of change events which are not dispatched to a service", tags));
+        }
+
+        void onReceived() {
+            increment(this.received);
+        }
+
+        void onDispatched() {
+            increment(this.dispatched);
+        }
+
+        void onFailed() {
+            increment(this.failed);
+        }
+
+        void onSkipped() {
+            increment(this.skipped);
+        }
+
+        /**
+         * Records the latencies of the stages of a change event, once the service method which processes it returns.
+         *
+         * @param event        The prepared change event
+         * @param method       The name of the service method which processed the change event
+         * @param dispatchedAt The {@link System#nanoTime()} at which the service method was invoked
+         */
+        void onHandled(PreparedEvent event, String method, long dispatchedAt) {
+            long completedAt = System.nanoTime();
+            long completedTime = System.currentTimeMillis();
+            StageLatencies stageLatencies = this.tableMetrics.getStageLatencies(method);
+            long receivedAt = event.receivedAt();
+            stageLatencies.record(LatencyStage.WAIT,
+                    toMicros(event.decodedFrom() - receivedAt + dispatchedAt - event.preparedAt()));
+            stageLatencies.record(LatencyStage.DECODE, toMicros(event.preparedAt() - event.decodedFrom()));
+            stageLatencies.record(LatencyStage.HANDLER, toMicros(completedAt - dispatchedAt));
+
+            // The wall clock time at which the event was received is derived from the monotonic clock, so that the
+            // stages which are measured against the timestamps of the event share a single reading of the wall
+            // clock
+            long receivedTime = completedTime - TimeUnit.NANOSECONDS.toMillis(completedAt - receivedAt);
+            Payload payload = event.payload();
+            long sourceTimestamp = payload.getSourceTimestamp();
+            long eventTimestamp = payload.getEventTimestamp();
+            if (sourceTimestamp >= 0 && eventTimestamp >= 0) {
+                stageLatencies.record(LatencyStage.SOURCE,
+                        TimeUnit.MILLISECONDS.toMicros(eventTimestamp - sourceTimestamp));
+            }
+            if (eventTimestamp >= 0) {
+                stageLatencies.record(LatencyStage.QUEUE,
+                        TimeUnit.MILLISECONDS.toMicros(receivedTime - eventTimestamp));
+            }
+            if (sourceTimestamp >= 0) {
+                stageLatencies.record(LatencyStage.END_TO_END,
+                        TimeUnit.MILLISECONDS.toMicros(completedTime - sourceTimestamp));
+            }
+        }
+    }
+
+    // The histograms of the stages of a fully-qualified table and a service method, along with the gauges which
+    // publish them if the metrics are enabled
+    private final class StageLatencies {
+
+        private final String table;
+        private final String method;
+        private final LatencyHistogram[] histograms = new LatencyHistogram[LatencyStage.values().length];
+        private final Gauge[] gauges = new Gauge[LatencyStage.values().length];
+
+        private StageLatencies(String table, String method) {
+            this.table = table;
+            this.method = method;
+            for (LatencyStage stage : LatencyStage.values()) {
+                this.histograms[stage.ordinal()] = new LatencyHistogram();
+                if (isEnabled) {
+                    this.gauges[stage.ordinal()] = registry.gauge(new MetricId(STAGE_LATENCY,
+                            "The latency of a stage of the processing of the change events, in milliseconds",
+                            Set.of(Tag.of(LISTENER_TAG, listenerName), Tag.of(TABLE_TAG, table),
+                                    Tag.of(METHOD_TAG, method), Tag.of(STAGE_TAG, stage.tag))),
+                            LATENCY_STATISTICS);
+                }
+            }
+        }
+
+        private void record(LatencyStage stage, long micros) {
+            this.histograms[stage.ordinal()].record(micros);
+            Gauge gauge = this.gauges[stage.ordinal()];
+            if (gauge != null) {
+                gauge.setValue(Math.max(micros, 0) / 1000.0);
+            }
+        }
+    }
+}
@@ -0,0 +1,148 @@
+/**
+ * Copyright (c) 2025, WSO2 LLC. (https://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.ballerina.lib.cdc;
+
+import org.apache.kafka.connect.json.JsonConverter;
+import org.apache.kafka.connect.runtime.standalone.StandaloneConfig;
+import org.apache.kafka.connect.storage.Converter;
+import org.apache.kafka.connect.storage.KafkaOffsetBackingStore;
+import org.apache.kafka.connect.storage.MemoryOffsetBackingStore;
+import org.apache.kafka.connect.storage.OffsetBackingStore;
+import org.apache.kafka.connect.storage.OffsetStorageReaderImpl;
+import org.apache.kafka.connect.storage.OffsetStorageWriter;
+
+import java.lang.reflect.Constructor;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.TimeUnit;
+
+import static io.ballerina.lib.cdc.utils.Constants.ENGINE_NAME;
+
+/**
+ * Seeds the offset store of the engine with the source position to start streaming from.
+ * <p>
+ * The offset is written the same way the engine commits its offsets, through a separate instance of the configured
+ * offset store, which is stopped before the engine is started. The offset is only written when the store has no
+ * offset for the source partition, so that a restarted listener resumes from its committed offsets instead of the
+ * given position.
+ */
+final class OffsetSeeder {
+
+    private static final String OFFSET_STORAGE = "offset.storage";
+    private static final String OFFSET_FLUSH_TIMEOUT_MS = "offset.flush.timeout.ms";
+    private static final String DEFAULT_FLUSH_TIMEOUT_MS = "5000";
+
+    private OffsetSeeder() {
+    }
+
+    /**
+     * Writes the given offset for the given source partition, unless the offset store already has an offset for it.
+     *
+     * @param engineProperties The properties of the engine, which configure the offset store
+     * @param partitionJson    The source partition, as a JSON object
+     * @param offsetJson       The source offset, as a JSON object
+     * @return {@code true} if the offset is written, or {@code false} if the store already has an offset
+     * @throws Exception If the offset store cannot be read or written
+     */
+    static boolean seed(Properties engineProperties, String partitionJson, String offsetJson) throws Exception {
+        String storeClassName = engineProperties.getProperty(OFFSET_STORAGE);
+        if (MemoryOffsetBackingStore.class.getName().equals(storeClassName)) {
+            throw new IllegalArgumentException("The start position cannot be used with the in-memory offset storage.");
+        }
+        // The Kafka store is created by the engine along with its Kafka clients, so it cannot be created here
+        if (KafkaOffsetBackingStore.class.getName().equals(storeClassName)) {
+            throw new IllegalArgumentException("The start position cannot be used with the Kafka offset storage.");
+        }
+        String engineName = engineProperties.getProperty(ENGINE_NAME);
+        Converter keyConverter = createConverter(true);
+        Converter valueConverter = createConverter(false);
+        Map<String, Object> partition = toMap(valueConverter, engineName, partitionJson);
+        Map<String, Object> offset = toMap(valueConverter, engineName, offsetJson);
+
+        OffsetBackingStore store = createStore(storeClassName, keyConverter);
+        store.configure(createWorkerConfig(engineProperties));
+        store.start();
+        try {
+            OffsetStorageReaderImpl reader = new OffsetStorageReaderImpl(store, engineName, keyConverter,
+                    valueConverter);
+            if (reader.offset(partition) != null) {
+                return false;
+            }
+            OffsetStorageWriter writer = new OffsetStorageWriter(store, engineName, keyConverter, valueConverter);
+            writer.offset(partition, offset);
+            if (writer.beginFlush()) {
+                long timeout = Long.parseLong(engineProperties.getProperty(OFFSET_FLUSH_TIMEOUT_MS,
+                        DEFAULT_FLUSH_TIMEOUT_MS));
+                writer.doFlush(null).get(timeout, TimeUnit.MILLISECONDS);
+            }
+            return true;
+        } finally {
+            store.stop();
+        }
+    }
+
+    // The engine stores the offsets as JSON without schemas
+    private static Converter createConverter(boolean isKey) {
+        JsonConverter converter = new JsonConverter();
+        converter.configure(Map.of("schemas.enable", "false"), isKey);
+        return converter;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Map<String, Object> toMap(Converter converter, String engineName, String json) {
+        Object value = converter.toConnectData(engineName, json.getBytes(StandardCharsets.UTF_8)).value();
+        if (!(value instanceof Map)) {
+            throw new IllegalArgumentException("The start position must be a JSON object: " + json);
+        }
+        return (Map<String, Object>) value;
+    }
+
+    // Follows the engine, which passes its key converter to the stores which need one to read their offsets
+    private static OffsetBackingStore createStore(String className, Converter keyConverter) throws Exception {
+        Class<?> storeClass = Class.forName(className);
+        if (!OffsetBackingStore.class.isAssignableFrom(storeClass)) {
+            throw new IllegalArgumentException("The offset storage '" + className + "' is not an offset store.");
+        }
+        for (Constructor<?> constructor : storeClass.getConstructors()) {
+            Class<?>[] parameterTypes = constructor.getParameterTypes();
+            if (parameterTypes.length == 1 && parameterTypes[0] == Converter.class) {
+                return (OffsetBackingStore) constructor.newInstance(keyConverter);
+            }
+        }
+        for (Constructor<?> constructor : storeClass.getConstructors()) {
+            if (constructor.getParameterCount() == 0) {
+                return (OffsetBackingStore) constructor.newInstance();
+            }
+        }
+        throw new IllegalArgumentException("The start position cannot be used with the offset storage '" + className +
+                "', as it can only be created by the engine.");
+    }
+
+    private static StandaloneConfig createWorkerConfig(Properties engineProperties) {
+        Map<String, String> config = new HashMap<>();
+        for (String name : engineProperties.stringPropertyNames()) {
+            config.put(name, engineProperties.getProperty(name));
+        }
+        config.put(StandaloneConfig.KEY_CONVERTER_CLASS_CONFIG, JsonConverter.class.getName());
+        config.put(StandaloneConfig.VALUE_CONVERTER_CLASS_CONFIG, JsonConverter.class.getName());
+        config.putIfAbsent(StandaloneConfig.OFFSET_STORAGE_FILE_FILENAME_CONFIG, "");
+        return new StandaloneConfig(config);
+    }
+}
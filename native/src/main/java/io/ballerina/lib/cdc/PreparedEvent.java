@@ -0,0 +1,65 @@
+/**
+ * Copyright (c) 2025, WSO2 LLC. (https://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.ballerina.lib.cdc;
+
+import io.ballerina.lib.cdc.models.Payload;
+import io.ballerina.lib.cdc.models.Service;
+import io.ballerina.runtime.api.concurrent.StrandMetadata;
+import io.ballerina.runtime.api.values.BError;
+import io.ballerina.runtime.api.values.BMap;
+import io.ballerina.runtime.api.values.BString;
+
+/**
+ * A change event which is decoded and bound to the parameters of its service method, and is ready to be dispatched.
+ *
+ * @param service        The service of the change event, or null if it could not be resolved
+ * @param payload        The decoded change event, or null if it could not be decoded
+ * @param metrics        The counters of the table and the operation of the change event
+ * @param methodName     The name of the service method to invoke
+ * @param strandMetadata The metadata of the strand which invokes the service method
+ * @param parameters     The parameters of the service method
+ * @param batchEvent     The change event to add to the batch of the service, if the service implements
+ *                       {@code onBatch}
+ * @param error          The error to report instead of dispatching the change event, if it could not be prepared
+ * @param receivedAt     The {@link System#nanoTime()} at which the change event was received from the engine
+ * @param decodedFrom    The {@link System#nanoTime()} at which the decoding of the change event started
+ * @param preparedAt     The {@link System#nanoTime()} at which the change event was prepared
+ */
+record PreparedEvent(Service service, Payload payload, ListenerMetrics.EventMetrics metrics, String methodName,
+                     StrandMetadata strandMetadata, Object[] parameters, BMap<BString, Object> batchEvent,
+                     BError error, long receivedAt, long decodedFrom, long preparedAt) {
+
+    static PreparedEvent invocation(Service service, Payload payload, ListenerMetrics.EventMetrics metrics,
+                                    String methodName, StrandMetadata strandMetadata, Object[] parameters,
+                                    long receivedAt, long decodedFrom) {
+        return new PreparedEvent(service, payload, metrics, methodName, strandMetadata, parameters, null, null,
+                receivedAt, decodedFrom, System.nanoTime());
+    }
+
+    static PreparedEvent batched(Service service, Payload payload, ListenerMetrics.EventMetrics metrics,
+                                 BMap<BString, Object> batchEvent, long receivedAt, long decodedFrom) {
+        return new PreparedEvent(service, payload, metrics, null, null, null, batchEvent, null, receivedAt,
+                decodedFrom, System.nanoTime());
+    }
+
+    static PreparedEvent failed(Service service, Payload payload, ListenerMetrics.EventMetrics metrics,
+                                BError error, long receivedAt, long decodedFrom) {
+        return new PreparedEvent(service, payload, metrics, null, null, null, null, error, receivedAt,
+                decodedFrom, System.nanoTime());
+    }
+}
@@ -0,0 +1,54 @@
+/**
+ * Copyright (c) 2025, WSO2 LLC. (https://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.ballerina.lib.cdc.decoder;
+
+import io.ballerina.lib.cdc.models.Payload;
+import io.debezium.engine.RecordChangeEvent;
+import org.apache.kafka.connect.data.Struct;
+import org.apache.kafka.connect.source.SourceRecord;
+
+/**
+ * Decodes change events emitted in the Kafka Connect event format, without serializing them into JSON.
+ */
+public final class ConnectEventDecoder implements EventDecoder<RecordChangeEvent<SourceRecord>> {
+
+    @Override
+    public Payload decode(RecordChangeEvent<SourceRecord> record) {
+        Object value = record.record().value();
+        if (!(value instanceof Struct envelope)) {
+            throw new IllegalArgumentException("Change event does not contain a valid envelope.");
+        }
+        return new StructPayload(envelope);
+    }
+
+    @Override
+    public String getDestination(RecordChangeEvent<SourceRecord> record) {
+        return record.record().topic();
+    }
+
+    @Override
+    public Object getKey(RecordChangeEvent<SourceRecord> record) {
+        return record.record().key();
+    }
+
+    @Override
+    public Object toJson(RecordChangeEvent<SourceRecord> record) {
+        Object value = record.record().value();
+        return value instanceof Struct envelope ? ConnectValueConverter.toJsonMap(envelope) : null;
+    }
+}
@@ -0,0 +1,163 @@
+/**
+ * Copyright (c) 2025, WSO2 LLC. (https://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.ballerina.lib.cdc.decoder;
+
+import io.ballerina.runtime.api.creators.TypeCreator;
+import io.ballerina.runtime.api.creators.ValueCreator;
+import io.ballerina.runtime.api.types.ArrayType;
+import io.ballerina.runtime.api.types.MapType;
+import io.ballerina.runtime.api.types.PredefinedTypes;
+import io.ballerina.runtime.api.utils.StringUtils;
+import io.ballerina.runtime.api.values.BArray;
+import io.ballerina.runtime.api.values.BMap;
+import io.ballerina.runtime.api.values.BString;
+import org.apache.kafka.connect.data.Field;
+import org.apache.kafka.connect.data.Schema;
+import org.apache.kafka.connect.data.Struct;
+import org.apache.kafka.connect.data.Time;
+import org.apache.kafka.connect.data.Timestamp;
+
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.util.Base64;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Converts Kafka Connect values into Ballerina JSON values by using their schemas.
+ * <p>
+ * The conversion mirrors the values produced by the Debezium JSON event format, except for the values of the Kafka
+ * Connect {@code Decimal} logical type. The JSON format encodes those as Base64 strings of their unscaled bytes, while
+ * they are converted into Ballerina {@code decimal} values here. The Kafka Connect {@code Date}, {@code Time} and
+ * {@code Timestamp} logical types are converted into the same integers as the JSON format, which are the days since
+ * the epoch, the milliseconds since midnight and the milliseconds since the epoch respectively.
+ */
+public final class ConnectValueConverter {
+
+    private static final MapType JSON_MAP_TYPE = TypeCreator.createMapType(PredefinedTypes.TYPE_JSON);
+    private static final ArrayType JSON_ARRAY_TYPE = TypeCreator.createArrayType(PredefinedTypes.TYPE_JSON);
+
+    private ConnectValueConverter() {
+    }
+
+    /**
+     * Converts the given struct into a Ballerina JSON map.
+     *
+     * @param struct The struct to convert
+     * @return The Ballerina JSON map, or null if the struct is null
+     */
+    public static BMap<BString, Object> toJsonMap(Struct struct) {
+        if (struct == null) {
+            return null;
+        }
+        BMap<BString, Object> map = ValueCreator.createMapValue(JSON_MAP_TYPE);
+        for (Field field : struct.schema().fields()) {
+            map.put(StringUtils.fromString(field.name()), toJsonValue(field.schema(), struct.get(field)));
+        }
+        return map;
+    }
+
+    /**
+     * Converts the given value into a Ballerina JSON value.
+     *
+     * @param schema The schema of the value
+     * @param value  The value to convert
+     * @return The Ballerina JSON value
+     */
+    public static Object toJsonValue(Schema schema, Object value) {
+        if (value == null) {
+            return null;
+        }
+        return switch (schema.type()) {
+            case INT8, INT16, INT32, INT64 -> value instanceof Date date ? toEpochValue(schema, date)
+                    : ((Number) value).longValue();
+            case FLOAT32 -> toDecimal(((Number) value).floatValue());
+            case FLOAT64 -> toDecimal(((Number) value).doubleValue());
+            case BOOLEAN -> value;
+            case STRING -> StringUtils.fromString(value.toString());
+            case BYTES -> toBytesValue(value);
+            case ARRAY -> toJsonArray(schema.valueSchema(), (List<?>) value);
+            case MAP -> toJsonMap(schema.valueSchema(), (Map<?, ?>) value);
+            case STRUCT -> toJsonMap((Struct) value);
+        };
+    }
+
+    // Converts the Kafka Connect logical date and time types into the integers written by the JSON converter
+    private static long toEpochValue(Schema schema, Date date) {
+        String logicalName = schema.name();
+        if (org.apache.kafka.connect.data.Date.LOGICAL_NAME.equals(logicalName)) {
+            return org.apache.kafka.connect.data.Date.fromLogical(schema, date);
+        }
+        if (Time.LOGICAL_NAME.equals(logicalName)) {
+            return Time.fromLogical(schema, date);
+        }
+        if (Timestamp.LOGICAL_NAME.equals(logicalName)) {
+            return Timestamp.fromLogical(schema, date);
+        }
+        return date.getTime();
+    }
+
+    private static BArray toJsonArray(Schema valueSchema, List<?> values) {
+        BArray array = ValueCreator.createArrayValue(JSON_ARRAY_TYPE);
+        for (Object value : values) {
+            array.append(toJsonValue(valueSchema, value));
+        }
+        return array;
+    }
+
+    private static BMap<BString, Object> toJsonMap(Schema valueSchema, Map<?, ?> values) {
+        BMap<BString, Object> map = ValueCreator.createMapValue(JSON_MAP_TYPE);
+        for (Map.Entry<?, ?> entry : values.entrySet()) {
+            map.put(StringUtils.fromString(String.valueOf(entry.getKey())),
+                    toJsonValue(valueSchema, entry.getValue()));
+        }
+        return map;
+    }
+
+    // Fractional numbers are represented as `decimal` values, similar to the JSON event format
+    private static Object toDecimal(double value) {
+        if (Double.isNaN(value) || Double.isInfinite(value)) {
+            return value;
+        }
+        return ValueCreator.createDecimalValue(BigDecimal.valueOf(value));
+    }
+
+    // Floats are converted from their shortest decimal representation, so that 1.1f is not widened to 1.100000023841858
+    private static Object toDecimal(float value) {
+        if (Float.isNaN(value) || Float.isInfinite(value)) {
+            return (double) value;
+        }
+        return ValueCreator.createDecimalValue(new BigDecimal(Float.toString(value)));
+    }
+
+    // Byte values are Base64 encoded, similar to the JSON event format, unless they represent a decimal
+    private static Object toBytesValue(Object value) {
+        if (value instanceof BigDecimal decimal) {
+            return ValueCreator.createDecimalValue(decimal);
+        }
+        byte[] bytes;
+        if (value instanceof ByteBuffer buffer) {
+            bytes = new byte[buffer.remaining()];
+            buffer.duplicate().get(bytes);
+        } else {
+            bytes = (byte[]) value;
+        }
+        return StringUtils.fromString(Base64.getEncoder().encodeToString(bytes));
+    }
+}
@@ -0,0 +1,63 @@
+/**
+ * Copyright (c) 2025, WSO2 LLC. (https://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.ballerina.lib.cdc.decoder;
+
+import io.ballerina.lib.cdc.models.Payload;
+
+/**
+ * Decodes the change events emitted by the Debezium engine into {@link Payload} instances.
+ *
+ * @param <R> The type of the change events emitted by the engine
+ */
+public interface EventDecoder<R> {
+
+    /**
+     * Decodes the given change event.
+     *
+     * @param record The change event emitted by the engine
+     * @return The decoded payload
+     * @throws Exception If the change event cannot be decoded
+     */
+    Payload decode(R record) throws Exception;
+
+    /**
+     * Returns the destination of the given change event, i.e. the topic it is emitted to. All the events of a table
+     * are emitted to the same destination, unless the destinations are rewritten by transformations.
+     *
+     * @param record The change event emitted by the engine
+     * @return The destination of the change event, or null if it is not known
+     */
+    String getDestination(R record);
+
+    /**
+     * Returns the key of the given change event, i.e. the primary key of the changed row. Keys of the same row are
+     * equal to each other, and have the same hash code.
+     *
+     * @param record The change event emitted by the engine
+     * @return The key of the change event, or null if the change event does not have a key
+     */
+    Object getKey(R record);
+
+    /**
+     * Returns the Ballerina JSON representation of the given change event, which is used when reporting errors.
+     *
+     * @param record The change event emitted by the engine
+     * @return The Ballerina JSON value of the change event
+     */
+    Object toJson(R record);
+}
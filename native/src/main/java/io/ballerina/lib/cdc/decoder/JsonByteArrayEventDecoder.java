@@ -0,0 +1,68 @@
+/**
+ * Copyright (c) 2025, WSO2 LLC. (https://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.ballerina.lib.cdc.decoder;
+
+import io.ballerina.lib.cdc.models.Payload;
+import io.ballerina.runtime.api.utils.JsonUtils;
+import io.debezium.engine.ChangeEvent;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Decodes Debezium JSON change events, which are emitted as UTF-8 encoded bytes, into {@link Payload} instances.
+ * <p>
+ * The events are never decoded into strings as a whole. The members bound to the service method parameters are
+ * parsed straight from the bytes.
+ */
+public final class JsonByteArrayEventDecoder implements EventDecoder<ChangeEvent<byte[], byte[]>> {
+
+    private final boolean schemasEnabled;
+
+    /**
+     * Creates a decoder for Debezium JSON change events emitted as bytes.
+     *
+     * @param schemasEnabled Indicates if the events wrap the envelope in a {@code payload} member along with its
+     *                       schema, or if the events are the bare envelopes
+     */
+    public JsonByteArrayEventDecoder(boolean schemasEnabled) {
+        this.schemasEnabled = schemasEnabled;
+    }
+
+    @Override
+    public Payload decode(ChangeEvent<byte[], byte[]> record) throws IOException {
+        return JsonEventDecoder.decode(JsonScanner.of(record.value()), schemasEnabled);
+    }
+
+    @Override
+    public String getDestination(ChangeEvent<byte[], byte[]> record) {
+        return record.destination();
+    }
+
+    @Override
+    public Object getKey(ChangeEvent<byte[], byte[]> record) {
+        // Wrapped, as byte arrays do not compare by their content
+        return record.key() == null ? null : ByteBuffer.wrap(record.key());
+    }
+
+    @Override
+    public Object toJson(ChangeEvent<byte[], byte[]> record) {
+        return JsonUtils.parse(new String(record.value(), StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,168 @@
+/**
+ * Copyright (c) 2025, WSO2 LLC. (https://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.ballerina.lib.cdc.decoder;
+
+import com.google.gson.stream.JsonReader;
+import io.ballerina.lib.cdc.models.Payload;
+import io.ballerina.runtime.api.creators.TypeCreator;
+import io.ballerina.runtime.api.creators.ValueCreator;
+import io.ballerina.runtime.api.types.ArrayType;
+import io.ballerina.runtime.api.types.MapType;
+import io.ballerina.runtime.api.types.PredefinedTypes;
+import io.ballerina.runtime.api.utils.JsonUtils;
+import io.ballerina.runtime.api.utils.StringUtils;
+import io.ballerina.runtime.api.values.BArray;
+import io.ballerina.runtime.api.values.BMap;
+import io.ballerina.runtime.api.values.BString;
+import io.debezium.engine.ChangeEvent;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.math.BigDecimal;
+
+import static io.ballerina.lib.cdc.utils.Constants.EventMembers.PAYLOAD;
+
+/**
+ * Decodes Debezium JSON change events into {@link Payload} instances.
+ * <p>
+ * Decoding only locates the members of the change event envelope. The members are parsed lazily, directly into
+ * the values they are bound to.
+ */
+public final class JsonEventDecoder implements EventDecoder<ChangeEvent<String, String>> {
+
+    private static final MapType JSON_MAP_TYPE = TypeCreator.createMapType(PredefinedTypes.TYPE_JSON);
+    private static final ArrayType JSON_ARRAY_TYPE = TypeCreator.createArrayType(PredefinedTypes.TYPE_JSON);
+
+    private final boolean schemasEnabled;
+
+    /**
+     * Creates a decoder for Debezium JSON change events.
+     *
+     * @param schemasEnabled Indicates if the events wrap the envelope in a {@code payload} member along with its
+     *                       schema, or if the events are the bare envelopes
+     */
+    public JsonEventDecoder(boolean schemasEnabled) {
+        this.schemasEnabled = schemasEnabled;
+    }
+
+    @Override
+    public Payload decode(ChangeEvent<String, String> record) throws IOException {
+        return decode(JsonScanner.of(record.value()), schemasEnabled);
+    }
+
+    @Override
+    public String getDestination(ChangeEvent<String, String> record) {
+        return record.destination();
+    }
+
+    @Override
+    public Object getKey(ChangeEvent<String, String> record) {
+        return record.key();
+    }
+
+    @Override
+    public Object toJson(ChangeEvent<String, String> record) {
+        return JsonUtils.parse(record.value());
+    }
+
+    /**
+     * Decodes the Debezium JSON change event read by the given scanner.
+     *
+     * @param scanner        The scanner over the JSON change event
+     * @param schemasEnabled Indicates if the event wraps the envelope in a {@code payload} member
+     * @return The decoded payload
+     * @throws IOException If the event is not a valid JSON change event
+     */
+    static Payload decode(JsonScanner scanner, boolean schemasEnabled) throws IOException {
+        int start = scanner.skipWhitespace(0);
+        if (!schemasEnabled) {
+            return new JsonPayload(scanner, start);
+        }
+        int[] payloadStart = {-1};
+        scanner.scanObject(start, (nameStart, nameEnd, valueStart, valueEnd) -> {
+            if (scanner.nameEquals(nameStart, nameEnd, PAYLOAD) && !scanner.isNull(valueStart, valueEnd)) {
+                payloadStart[0] = valueStart;
+            }
+        });
+        if (payloadStart[0] < 0) {
+            throw new IOException("Change event does not contain a '" + PAYLOAD + "' member.");
+        }
+        return new JsonPayload(scanner, payloadStart[0]);
+    }
+
+    /**
+     * Reads the given JSON object as a Ballerina JSON map.
+     *
+     * @param json The reader of the JSON object
+     * @return The Ballerina JSON map
+     * @throws IOException If the given JSON is not a valid JSON object
+     */
+    static BMap<BString, Object> readJsonObject(Reader json) throws IOException {
+        try (JsonReader reader = new JsonReader(json)) {
+            return readObject(reader);
+        }
+    }
+
+    private static BMap<BString, Object> readObject(JsonReader reader) throws IOException {
+        BMap<BString, Object> map = ValueCreator.createMapValue(JSON_MAP_TYPE);
+        reader.beginObject();
+        while (reader.hasNext()) {
+            BString key = StringUtils.fromString(reader.nextName());
+            map.put(key, readValue(reader));
+        }
+        reader.endObject();
+        return map;
+    }
+
+    private static BArray readArray(JsonReader reader) throws IOException {
+        BArray array = ValueCreator.createArrayValue(JSON_ARRAY_TYPE);
+        reader.beginArray();
+        while (reader.hasNext()) {
+            array.append(readValue(reader));
+        }
+        reader.endArray();
+        return array;
+    }
+
+    private static Object readValue(JsonReader reader) throws IOException {
+        return switch (reader.peek()) {
+            case BEGIN_OBJECT -> readObject(reader);
+            case BEGIN_ARRAY -> readArray(reader);
+            case STRING -> StringUtils.fromString(reader.nextString());
+            case NUMBER -> readNumber(reader.nextString());
+            case BOOLEAN -> reader.nextBoolean();
+            case NULL -> {
+                reader.nextNull();
+                yield null;
+            }
+            default -> throw new IOException("Unexpected JSON token '" + reader.peek() + "' in change event.");
+        };
+    }
+
+    // Follows the Ballerina JSON semantics, where integral numbers are read as `int` and others as `decimal`
+    private static Object readNumber(String number) {
+        if (number.indexOf('.') < 0 && number.indexOf('e') < 0 && number.indexOf('E') < 0) {
+            try {
+                return Long.parseLong(number);
+            } catch (NumberFormatException e) {
+                // Falls back to decimal for values that do not fit into an int
+            }
+        }
+        return ValueCreator.createDecimalValue(new BigDecimal(number));
+    }
+}
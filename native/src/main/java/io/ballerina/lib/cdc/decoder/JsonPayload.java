@@ -0,0 +1,187 @@
+/**
+ * Copyright (c) 2025, WSO2 LLC. (https://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.ballerina.lib.cdc.decoder;
+
+import io.ballerina.lib.cdc.models.Payload;
+import io.ballerina.runtime.api.values.BMap;
+import io.ballerina.runtime.api.values.BString;
+import io.ballerina.runtime.api.values.BTypedesc;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+
+import static io.ballerina.lib.cdc.utils.Constants.EventMembers.AFTER;
+import static io.ballerina.lib.cdc.utils.Constants.EventMembers.BEFORE;
+import static io.ballerina.lib.cdc.utils.Constants.EventMembers.DB;
+import static io.ballerina.lib.cdc.utils.Constants.EventMembers.OP;
+import static io.ballerina.lib.cdc.utils.Constants.EventMembers.SCHEMA;
+import static io.ballerina.lib.cdc.utils.Constants.EventMembers.SOURCE;
+import static io.ballerina.lib.cdc.utils.Constants.EventMembers.TABLE;
+import static io.ballerina.lib.cdc.utils.Constants.EventMembers.TS_MS;
+
+/**
+ * Represents the payload of a CDC event decoded from the Debezium JSON event format.
+ * <p>
+ * The ranges of the envelope members are located once, when the payload is created. The {@code before},
+ * {@code after} and {@code source} members are only parsed when they are requested, so that the members which
+ * are not bound to the service method parameters are never materialized.
+ */
+public class JsonPayload extends Payload {
+
+    private static final int ABSENT = -1;
+
+    private final JsonScanner scanner;
+    private final int payloadStart;
+    private final int payloadEnd;
+    private int beforeStart = ABSENT;
+    private int beforeEnd = ABSENT;
+    private int afterStart = ABSENT;
+    private int afterEnd = ABSENT;
+    private int sourceStart = ABSENT;
+    private String op;
+    private long eventTimestamp = ABSENT;
+
+    private boolean isSourceResolved = false;
+    private String database;
+    private String schema;
+    private String table;
+    private long sourceTimestamp = ABSENT;
+
+    JsonPayload(JsonScanner scanner, int payloadStart) {
+        this.scanner = scanner;
+        this.payloadStart = payloadStart;
+        this.payloadEnd = scanner.scanObject(payloadStart, this::indexEnvelopeMember);
+    }
+
+    private void indexEnvelopeMember(int nameStart, int nameEnd, int valueStart, int valueEnd) {
+        if (scanner.isNull(valueStart, valueEnd)) {
+            return;
+        }
+        if (scanner.nameEquals(nameStart, nameEnd, BEFORE)) {
+            beforeStart = valueStart;
+            beforeEnd = valueEnd;
+        } else if (scanner.nameEquals(nameStart, nameEnd, AFTER)) {
+            afterStart = valueStart;
+            afterEnd = valueEnd;
+        } else if (scanner.nameEquals(nameStart, nameEnd, SOURCE)) {
+            sourceStart = valueStart;
+        } else if (scanner.nameEquals(nameStart, nameEnd, OP)) {
+            op = scanner.readString(valueStart, valueEnd);
+        } else if (scanner.nameEquals(nameStart, nameEnd, TS_MS)) {
+            eventTimestamp = readTimestamp(valueStart, valueEnd);
+        }
+    }
+
+    @Override
+    public BMap<BString, Object> getPayloadMember(String key) {
+        int[] range = getMemberRange(key);
+        if (range == null) {
+            return null;
+        }
+        try {
+            return JsonEventDecoder.readJsonObject(scanner.reader(range[0], range[1]));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    public Object bindPayloadMember(String key, BTypedesc typedesc, BMap<BString, Object> parserOptions) {
+        int[] range = getMemberRange(key);
+        if (range == null) {
+            return super.bindPayloadMember(key, typedesc, parserOptions);
+        }
+        return scanner.parse(range[0], range[1], parserOptions, typedesc);
+    }
+
+    @Override
+    public String getDatabase() {
+        resolveSource();
+        return database;
+    }
+
+    @Override
+    public String getSchema() {
+        resolveSource();
+        return schema;
+    }
+
+    @Override
+    public String getTable() {
+        resolveSource();
+        return table;
+    }
+
+    @Override
+    public String getOp() {
+        return op;
+    }
+
+    @Override
+    public long getSourceTimestamp() {
+        resolveSource();
+        return sourceTimestamp;
+    }
+
+    @Override
+    public long getEventTimestamp() {
+        return eventTimestamp;
+    }
+
+    @Override
+    public String toString() {
+        return scanner.text(payloadStart, payloadEnd);
+    }
+
+    private int[] getMemberRange(String key) {
+        return switch (key) {
+            case BEFORE -> beforeStart == ABSENT ? null : new int[]{beforeStart, beforeEnd};
+            case AFTER -> afterStart == ABSENT ? null : new int[]{afterStart, afterEnd};
+            default -> null;
+        };
+    }
+
+    private void resolveSource() {
+        if (isSourceResolved) {
+            return;
+        }
+        isSourceResolved = true;
+        if (sourceStart == ABSENT || scanner.read(sourceStart) != '{') {
+            return;
+        }
+        scanner.scanObject(sourceStart, (nameStart, nameEnd, valueStart, valueEnd) -> {
+            if (scanner.nameEquals(nameStart, nameEnd, DB)) {
+                database = scanner.readString(valueStart, valueEnd);
+            } else if (scanner.nameEquals(nameStart, nameEnd, SCHEMA)) {
+                schema = scanner.readString(valueStart, valueEnd);
+            } else if (scanner.nameEquals(nameStart, nameEnd, TABLE)) {
+                table = scanner.readString(valueStart, valueEnd);
+            } else if (scanner.nameEquals(nameStart, nameEnd, TS_MS) && !scanner.isNull(valueStart, valueEnd)) {
+                sourceTimestamp = readTimestamp(valueStart, valueEnd);
+            }
+        });
+    }
+
+    private long readTimestamp(int valueStart, int valueEnd) {
+        try {
+            return Long.parseLong(scanner.text(valueStart, valueEnd));
+        } catch (NumberFormatException e) {
+            return ABSENT;
+        }
+    }
+}
@@ -0,0 +1,313 @@
+/**
+ * Copyright (c) 2025, WSO2 LLC. (https://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.ballerina.lib.cdc.decoder;
+
+import com.google.gson.JsonParser;
+import io.ballerina.lib.data.jsondata.json.Native;
+import io.ballerina.runtime.api.creators.ValueCreator;
+import io.ballerina.runtime.api.utils.StringUtils;
+import io.ballerina.runtime.api.values.BMap;
+import io.ballerina.runtime.api.values.BString;
+import io.ballerina.runtime.api.values.BTypedesc;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * A minimal scanner that locates the members of JSON objects without materializing their values.
+ * <p>
+ * The scanner only validates the structure that is required to find the boundaries of the values. The values
+ * themselves are validated when they are parsed. As all the structural characters of JSON are ASCII, the same
+ * scanning logic applies to both decoded strings and UTF-8 encoded bytes.
+ */
+abstract sealed class JsonScanner permits JsonScanner.StringScanner, JsonScanner.ByteScanner {
+
+    static JsonScanner of(String json) {
+        return new StringScanner(json);
+    }
+
+    static JsonScanner of(byte[] json) {
+        return new ByteScanner(json);
+    }
+
+    /**
+     * Returns the length of the scanned JSON, in the units it is indexed in.
+     */
+    abstract int length();
+
+    /**
+     * Returns the unit at the given index, without checking the bounds.
+     */
+    abstract int read(int index);
+
+    /**
+     * Returns the decoded text spanning the given range.
+     */
+    abstract String text(int start, int end);
+
+    /**
+     * Returns a reader over the decoded text spanning the given range.
+     */
+    abstract Reader reader(int start, int end);
+
+    /**
+     * Parses the value spanning the given range directly into the intended type.
+     */
+    abstract Object parse(int start, int end, BMap<BString, Object> parserOptions, BTypedesc typedesc);
+
+    /**
+     * Returns the index of the first non-whitespace character at or after the given index.
+     */
+    int skipWhitespace(int index) {
+        int length = length();
+        while (index < length) {
+            int c = read(index);
+            if (c != ' ' && c != '\n' && c != '\r' && c != '\t') {
+                break;
+            }
+            index++;
+        }
+        return index;
+    }
+
+    /**
+     * Returns the index immediately after the value starting at the given index.
+     */
+    int skipValue(int index) {
+        int c = charAt(index);
+        if (c == '"') {
+            return skipString(index);
+        }
+        if (c == '{' || c == '[') {
+            return skipContainer(index);
+        }
+        int length = length();
+        while (index < length) {
+            c = read(index);
+            if (c == ',' || c == '}' || c == ']' || c == ' ' || c == '\n' || c == '\r' || c == '\t') {
+                break;
+            }
+            index++;
+        }
+        return index;
+    }
+
+    /**
+     * Returns the index immediately after the string starting at the given index.
+     */
+    int skipString(int index) {
+        expect(index, '"');
+        int length = length();
+        for (int i = index + 1; i < length; i++) {
+            int c = read(i);
+            if (c == '\\') {
+                i++;
+            } else if (c == '"') {
+                return i + 1;
+            }
+        }
+        throw new IllegalArgumentException("Unterminated string at index " + index + " of the change event.");
+    }
+
+    /**
+     * Checks if the string spanning the given range equals the given ASCII name, without decoding it.
+     */
+    boolean nameEquals(int start, int end, String name) {
+        int length = name.length();
+        if (end - start - 2 != length) {
+            return false;
+        }
+        for (int i = 0; i < length; i++) {
+            if (read(start + 1 + i) != name.charAt(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Checks if the value spanning the given range is the JSON {@code null} literal.
+     */
+    boolean isNull(int start, int end) {
+        return end - start == 4 && read(start) == 'n' && read(start + 1) == 'u' && read(start + 2) == 'l'
+                && read(start + 3) == 'l';
+    }
+
+    /**
+     * Decodes the string value spanning the given range, or returns null if the value is not a string.
+     */
+    String readString(int start, int end) {
+        if (charAt(start) != '"') {
+            return null;
+        }
+        for (int i = start + 1; i < end - 1; i++) {
+            if (read(i) == '\\') {
+                return JsonParser.parseString(text(start, end)).getAsString();
+            }
+        }
+        return text(start + 1, end - 1);
+    }
+
+    /**
+     * Walks the members of the object starting at the given index.
+     *
+     * @return The index immediately after the object
+     */
+    int scanObject(int index, MemberVisitor visitor) {
+        expect(index, '{');
+        index = skipWhitespace(index + 1);
+        if (charAt(index) == '}') {
+            return index + 1;
+        }
+        while (true) {
+            int nameStart = index;
+            int nameEnd = skipString(nameStart);
+            index = skipWhitespace(nameEnd);
+            expect(index, ':');
+            int valueStart = skipWhitespace(index + 1);
+            int valueEnd = skipValue(valueStart);
+            visitor.visit(nameStart, nameEnd, valueStart, valueEnd);
+            index = skipWhitespace(valueEnd);
+            if (charAt(index) == '}') {
+                return index + 1;
+            }
+            expect(index, ',');
+            index = skipWhitespace(index + 1);
+        }
+    }
+
+    private int skipContainer(int index) {
+        int depth = 0;
+        int length = length();
+        for (int i = index; i < length; i++) {
+            int c = read(i);
+            if (c == '"') {
+                i = skipString(i) - 1;
+            } else if (c == '{' || c == '[') {
+                depth++;
+            } else if (c == '}' || c == ']') {
+                depth--;
+                if (depth == 0) {
+                    return i + 1;
+                }
+            }
+        }
+        throw new IllegalArgumentException("Unterminated value at index " + index + " of the change event.");
+    }
+
+    private int charAt(int index) {
+        if (index >= length()) {
+            throw new IllegalArgumentException("Unexpected end of the change event.");
+        }
+        return read(index);
+    }
+
+    private void expect(int index, char expected) {
+        if (charAt(index) != expected) {
+            throw new IllegalArgumentException("Expected '" + expected + "' at index " + index +
+                    " of the change event.");
+        }
+    }
+
+    /**
+     * Receives the ranges of the members of a JSON object.
+     */
+    @FunctionalInterface
+    interface MemberVisitor {
+        void visit(int nameStart, int nameEnd, int valueStart, int valueEnd);
+    }
+
+    /**
+     * Scans JSON which is already decoded into a string.
+     */
+    static final class StringScanner extends JsonScanner {
+
+        private final String json;
+
+        private StringScanner(String json) {
+            this.json = json;
+        }
+
+        @Override
+        int length() {
+            return json.length();
+        }
+
+        @Override
+        int read(int index) {
+            return json.charAt(index);
+        }
+
+        @Override
+        String text(int start, int end) {
+            return json.substring(start, end);
+        }
+
+        @Override
+        Reader reader(int start, int end) {
+            return new StringReader(text(start, end));
+        }
+
+        @Override
+        Object parse(int start, int end, BMap<BString, Object> parserOptions, BTypedesc typedesc) {
+            return Native.parseString(StringUtils.fromString(text(start, end)), parserOptions, typedesc);
+        }
+    }
+
+    /**
+     * Scans UTF-8 encoded JSON, so that only the parsed ranges are ever decoded.
+     */
+    static final class ByteScanner extends JsonScanner {
+
+        private final byte[] json;
+
+        private ByteScanner(byte[] json) {
+            this.json = json;
+        }
+
+        @Override
+        int length() {
+            return json.length;
+        }
+
+        @Override
+        int read(int index) {
+            return json[index];
+        }
+
+        @Override
+        String text(int start, int end) {
+            return new String(json, start, end - start, StandardCharsets.UTF_8);
+        }
+
+        @Override
+        Reader reader(int start, int end) {
+            return new InputStreamReader(new ByteArrayInputStream(json, start, end - start), StandardCharsets.UTF_8);
+        }
+
+        @Override
+        Object parse(int start, int end, BMap<BString, Object> parserOptions, BTypedesc typedesc) {
+            return Native.parseBytes(ValueCreator.createArrayValue(Arrays.copyOfRange(json, start, end)),
+                    parserOptions, typedesc);
+        }
+    }
+}
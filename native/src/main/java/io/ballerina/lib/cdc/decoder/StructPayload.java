@@ -0,0 +1,119 @@
+/**
+ * Copyright (c) 2025, WSO2 LLC. (https://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.ballerina.lib.cdc.decoder;
+
+import io.ballerina.lib.cdc.models.Payload;
+import io.ballerina.runtime.api.utils.StringUtils;
+import io.ballerina.runtime.api.values.BMap;
+import io.ballerina.runtime.api.values.BString;
+import org.apache.kafka.connect.data.Field;
+import org.apache.kafka.connect.data.Struct;
+
+import static io.ballerina.lib.cdc.utils.Constants.EventMembers.DB;
+import static io.ballerina.lib.cdc.utils.Constants.EventMembers.OP;
+import static io.ballerina.lib.cdc.utils.Constants.EventMembers.SCHEMA;
+import static io.ballerina.lib.cdc.utils.Constants.EventMembers.SOURCE;
+import static io.ballerina.lib.cdc.utils.Constants.EventMembers.TABLE;
+import static io.ballerina.lib.cdc.utils.Constants.EventMembers.TS_MS;
+
+/**
+ * Represents the payload of a CDC event emitted in the Kafka Connect event format.
+ * <p>
+ * The {@code before} and {@code after} structs are converted into Ballerina values only when they are requested.
+ */
+public class StructPayload extends Payload {
+
+    private final Struct envelope;
+    private final Struct source;
+
+    public StructPayload(Struct envelope) {
+        this.envelope = envelope;
+        this.source = getStruct(envelope, SOURCE);
+    }
+
+    @Override
+    public BMap<BString, Object> getPayloadMember(String key) {
+        return ConnectValueConverter.toJsonMap(getStruct(envelope, key));
+    }
+
+    @Override
+    public String getDatabase() {
+        return getString(source, DB);
+    }
+
+    @Override
+    public String getSchema() {
+        return getString(source, SCHEMA);
+    }
+
+    @Override
+    public String getTable() {
+        return getString(source, TABLE);
+    }
+
+    @Override
+    public String getOp() {
+        return getString(envelope, OP);
+    }
+
+    @Override
+    public long getSourceTimestamp() {
+        return getTimestamp(source, TS_MS);
+    }
+
+    @Override
+    public long getEventTimestamp() {
+        return getTimestamp(envelope, TS_MS);
+    }
+
+    @Override
+    public String toString() {
+        return StringUtils.getJsonString(ConnectValueConverter.toJsonMap(envelope));
+    }
+
+    private static Struct getStruct(Struct struct, String fieldName) {
+        if (struct == null) {
+            return null;
+        }
+        Field field = struct.schema().field(fieldName);
+        return field == null ? null : struct.getStruct(fieldName);
+    }
+
+    private static long getTimestamp(Struct struct, String fieldName) {
+        if (struct == null) {
+            return -1;
+        }
+        Field field = struct.schema().field(fieldName);
+        if (field == null) {
+            return -1;
+        }
+        return struct.get(field) instanceof Number value ? value.longValue() : -1;
+    }
+
+    private static String getString(Struct struct, String fieldName) {
+        if (struct == null) {
+            return null;
+        }
+        Field field = struct.schema().field(fieldName);
+        if (field == null) {
+            return null;
+        }
+        Object value = struct.get(field);
+        return value == null ? null : value.toString();
+    }
+}
@@ -0,0 +1,34 @@
+/**
+ * Copyright (c) 2025, WSO2 LLC. (https://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.ballerina.lib.cdc.models;
+
+import io.ballerina.runtime.api.concurrent.StrandMetadata;
+import io.ballerina.runtime.api.values.BMap;
+import io.ballerina.runtime.api.values.BString;
+import io.ballerina.runtime.api.values.BTypedesc;
+
+/**
+ * Represents the {@code onBatch} method of a CDC service along with the binding plan used to invoke it.
+ *
+ * @param eventsTypedesc The typedesc of the change event array parameter.
+ * @param strandMetadata The strand metadata used when invoking the method.
+ * @param parserOptions  The {@code data.jsondata} options used when binding the parameter.
+ */
+public record BatchMethod(BTypedesc eventsTypedesc, StrandMetadata strandMetadata,
+                          BMap<BString, Object> parserOptions) {
+}
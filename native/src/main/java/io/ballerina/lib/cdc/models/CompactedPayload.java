@@ -0,0 +1,110 @@
+/**
+ * Copyright (c) 2025, WSO2 LLC. (https://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.ballerina.lib.cdc.models;
+
+import io.ballerina.runtime.api.creators.TypeCreator;
+import io.ballerina.runtime.api.creators.ValueCreator;
+import io.ballerina.runtime.api.types.PredefinedTypes;
+import io.ballerina.runtime.api.utils.StringUtils;
+import io.ballerina.runtime.api.values.BMap;
+import io.ballerina.runtime.api.values.BString;
+import io.ballerina.runtime.api.values.BTypedesc;
+
+import static io.ballerina.lib.cdc.utils.Constants.EventMembers.AFTER;
+import static io.ballerina.lib.cdc.utils.Constants.EventMembers.BEFORE;
+import static io.ballerina.lib.cdc.utils.Constants.EventMembers.OP;
+
+/**
+ * Represents the payload of a chain of change events of the same row, compacted into a single change event.
+ * <p>
+ * The {@code before} member is taken from the first event of the chain, and the {@code after} member from the last
+ * event, so that the members are still bound lazily from the payloads they belong to.
+ */
+public final class CompactedPayload extends Payload {
+
+    private final String op;
+    private final Payload first;
+    private final Payload last;
+
+    /**
+     * Creates the payload of a compacted chain of change events.
+     *
+     * @param op    The operation of the compacted change event
+     * @param first The payload of the first change event of the chain
+     * @param last  The payload of the last change event of the chain
+     */
+    public CompactedPayload(String op, Payload first, Payload last) {
+        this.op = op;
+        this.first = first;
+        this.last = last;
+    }
+
+    @Override
+    public BMap<BString, Object> getPayloadMember(String key) {
+        return getMemberPayload(key).getPayloadMember(key);
+    }
+
+    @Override
+    public Object bindPayloadMember(String key, BTypedesc typedesc, BMap<BString, Object> parserOptions) {
+        return getMemberPayload(key).bindPayloadMember(key, typedesc, parserOptions);
+    }
+
+    private Payload getMemberPayload(String key) {
+        return BEFORE.equals(key) ? this.first : this.last;
+    }
+
+    @Override
+    public String getDatabase() {
+        return this.last.getDatabase();
+    }
+
+    @Override
+    public String getSchema() {
+        return this.last.getSchema();
+    }
+
+    @Override
+    public String getTable() {
+        return this.last.getTable();
+    }
+
+    @Override
+    public String getOp() {
+        return this.op;
+    }
+
+    @Override
+    public long getSourceTimestamp() {
+        return this.last.getSourceTimestamp();
+    }
+
+    @Override
+    public long getEventTimestamp() {
+        return this.last.getEventTimestamp();
+    }
+
+    @Override
+    public String toString() {
+        BMap<BString, Object> payload = ValueCreator.createMapValue(
+                TypeCreator.createMapType(PredefinedTypes.TYPE_JSON));
+        payload.put(StringUtils.fromString(OP), StringUtils.fromString(this.op));
+        payload.put(StringUtils.fromString(BEFORE), this.first.getPayloadMember(BEFORE));
+        payload.put(StringUtils.fromString(AFTER), this.last.getPayloadMember(AFTER));
+        return StringUtils.getJsonString(payload);
+    }
+}
@@ -0,0 +1,99 @@
+/**
+ * Copyright (c) 2025, WSO2 LLC. (https://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.ballerina.lib.cdc.models;
+
+/**
+ * Represents how the change events of a batch are dispatched to the service methods.
+ *
+ * @param lanes              The number of lanes that dispatch the events concurrently. The events of a lane are
+ *                           dispatched in order.
+ * @param isPartitionedByKey Indicates if the events are distributed among the lanes by the keys of their rows,
+ *                           instead of by their tables.
+ * @param maxInFlight        The maximum number of events which are dispatched asynchronously at a time, or zero if
+ *                           the events are not dispatched asynchronously.
+ * @param decodeWorkers      The number of workers which decode the events ahead of their dispatch, or zero if the
+ *                           events are decoded by the dispatching thread.
+ * @param bufferSize         The maximum number of decoded events which are waiting to be dispatched.
+ */
+public record DispatchOptions(int lanes, boolean isPartitionedByKey, int maxInFlight, int decodeWorkers,
+                              int bufferSize) {
+
+    /**
+     * Dispatches all the events in order, one after the other.
+     */
+    public static final DispatchOptions SEQUENTIAL = new DispatchOptions(1, false, 0, 0, 0);
+
+    /**
+     * Creates the options for dispatching the events of a batch concurrently in the given number of lanes.
+     *
+     * @param lanes              The number of lanes that dispatch the events concurrently.
+     * @param isPartitionedByKey Indicates if the events are distributed among the lanes by the keys of their rows.
+     * @return The dispatch options.
+     */
+    public static DispatchOptions partitioned(int lanes, boolean isPartitionedByKey) {
+        return new DispatchOptions(lanes, isPartitionedByKey, 0, 0, 0);
+    }
+
+    /**
+     * Creates the options for dispatching the events asynchronously, without waiting for the previous events.
+     *
+     * @param maxInFlight The maximum number of events which are dispatched at a time.
+     * @return The dispatch options.
+     */
+    public static DispatchOptions asynchronous(int maxInFlight) {
+        return new DispatchOptions(1, false, maxInFlight, 0, 0);
+    }
+
+    /**
+     * Creates the options for decoding the events in parallel, while dispatching them in order, one after the other.
+     *
+     * @param decodeWorkers The number of workers which decode the events ahead of their dispatch.
+     * @param bufferSize    The maximum number of decoded events which are waiting to be dispatched.
+     * @return The dispatch options.
+     */
+    public static DispatchOptions pipelined(int decodeWorkers, int bufferSize) {
+        return new DispatchOptions(1, false, 0, decodeWorkers, bufferSize);
+    }
+
+    /**
+     * Checks if the events are dispatched concurrently.
+     *
+     * @return True if the events are distributed among multiple lanes, false otherwise.
+     */
+    public boolean isConcurrent() {
+        return lanes > 1;
+    }
+
+    /**
+     * Checks if the events are dispatched asynchronously.
+     *
+     * @return True if multiple events can be in flight at a time, false otherwise.
+     */
+    public boolean isAsynchronous() {
+        return maxInFlight > 0;
+    }
+
+    /**
+     * Checks if the events are decoded in parallel with their dispatch.
+     *
+     * @return True if the events are decoded by a pool of workers, false otherwise.
+     */
+    public boolean isPipelined() {
+        return decodeWorkers > 0;
+    }
+}
@@ -17,18 +17,50 @@
  */
 package io.ballerina.lib.cdc.models;
 
+import io.ballerina.runtime.api.concurrent.StrandMetadata;
+import io.ballerina.runtime.api.creators.ValueCreator;
 import io.ballerina.runtime.api.types.Type;
+import io.ballerina.runtime.api.utils.TypeUtils;
+import io.ballerina.runtime.api.values.BMap;
+import io.ballerina.runtime.api.values.BString;
+import io.ballerina.runtime.api.values.BTypedesc;
 
 /**
- * Represents a CDC method with its parameter types and properties.
+ * Represents a CDC method along with the binding plan used to invoke it.
+ * <p>
+ * The plan is resolved once when the service is attached, so that dispatching an event does not need to resolve
+ * types, create typedescs or compute strand metadata.
  *
- * @param beforeParamType The type of the "before" parameter, if applicable.
- * @param afterParamType  The type of the "after" parameter, if applicable.
+ * @param name            The name of the method.
+ * @param beforeTypedesc  The typedesc of the "before" parameter, if applicable.
+ * @param afterTypedesc   The typedesc of the "after" parameter, if applicable.
  * @param hasTableName    Indicates if the method has a table name parameter.
  * @param isIsolated      Indicates if the method is isolated.
+ * @param strandMetadata  The strand metadata used when invoking the method.
+ * @param parserOptions   The {@code data.jsondata} options used when binding the parameters.
+ * @param parameterCount  The number of parameters of the method.
  */
-public record Method(Type beforeParamType, Type afterParamType,
-                     boolean hasTableName, boolean isIsolated) {
+public record Method(String name, BTypedesc beforeTypedesc, BTypedesc afterTypedesc, boolean hasTableName,
+                     boolean isIsolated, StrandMetadata strandMetadata, BMap<BString, Object> parserOptions,
+                     int parameterCount) {
+
+    /**
+     * Creates the binding plan of a CDC method.
+     *
+     * @param name              The name of the method.
+     * @param beforeParamType   The type of the "before" parameter, if applicable.
+     * @param afterParamType    The type of the "after" parameter, if applicable.
+     * @param hasTableName      Indicates if the method has a table name parameter.
+     * @param isIsolated        Indicates if the method is isolated.
+     * @param isServiceIsolated Indicates if the service the method belongs to is isolated.
+     * @param parserOptions     The {@code data.jsondata} options used when binding the parameters.
+     */
+    public Method(String name, Type beforeParamType, Type afterParamType, boolean hasTableName, boolean isIsolated,
+                  boolean isServiceIsolated, BMap<BString, Object> parserOptions) {
+        this(name, createTypedesc(beforeParamType), createTypedesc(afterParamType), hasTableName, isIsolated,
+                new StrandMetadata(isServiceIsolated && isIsolated, null), parserOptions,
+                (beforeParamType != null ? 1 : 0) + (afterParamType != null ? 1 : 0) + (hasTableName ? 1 : 0));
+    }
 
     /**
      * Checks if the method has a "before" parameter.
@@ -36,7 +68,7 @@ public record Method(Type beforeParamType, Type afterParamType,
      * @return True if the method has a "before" parameter, false otherwise.
      */
     public boolean hasBeforeParam() {
-        return beforeParamType != null;
+        return beforeTypedesc != null;
     }
 
     /**
@@ -45,6 +77,10 @@ public record Method(Type beforeParamType, Type afterParamType,
      * @return True if the method has an "after" parameter, false otherwise.
      */
     public boolean hasAfterParam() {
-        return afterParamType != null;
+        return afterTypedesc != null;
+    }
+
+    private static BTypedesc createTypedesc(Type type) {
+        return type == null ? null : ValueCreator.createTypedescValue(TypeUtils.getReferredType(type));
     }
 }
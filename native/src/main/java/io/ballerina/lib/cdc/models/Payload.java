@@ -17,67 +17,74 @@
  */
 package io.ballerina.lib.cdc.models;
 
-import com.google.gson.JsonElement;
-import com.google.gson.JsonObject;
-
-import java.util.Optional;
-
-import static io.ballerina.lib.cdc.utils.Constants.EventMembers.DB;
-import static io.ballerina.lib.cdc.utils.Constants.EventMembers.OP;
-import static io.ballerina.lib.cdc.utils.Constants.EventMembers.SCHEMA;
-import static io.ballerina.lib.cdc.utils.Constants.EventMembers.SOURCE;
-import static io.ballerina.lib.cdc.utils.Constants.EventMembers.TABLE;
+import io.ballerina.lib.data.jsondata.json.Native;
+import io.ballerina.runtime.api.creators.TypeCreator;
+import io.ballerina.runtime.api.creators.ValueCreator;
+import io.ballerina.runtime.api.types.PredefinedTypes;
+import io.ballerina.runtime.api.values.BMap;
+import io.ballerina.runtime.api.values.BString;
+import io.ballerina.runtime.api.values.BTypedesc;
 
 /**
  * Represents the payload of a CDC event.
  */
-public class Payload {
+public abstract class Payload {
 
-    private final JsonObject payload;
-
-    public Payload(JsonObject payload) {
-        this.payload = payload;
-    }
+    /**
+     * Returns the given member of the payload as a Ballerina JSON value.
+     *
+     * @param key The name of the member, i.e. {@code before} or {@code after}
+     * @return The member value, or null if the member is not present
+     */
+    public abstract BMap<BString, Object> getPayloadMember(String key);
 
-    public JsonObject getPayloadMember(String key) {
-        JsonElement element = payload.get(key);
-        if (element != null && element.isJsonObject()) {
-            return element.getAsJsonObject();
+    /**
+     * Binds the given member of the payload to the intended type. A missing member is bound as an empty object.
+     * <p>
+     * Payloads which can parse the member directly into the intended type override this, so that the member is
+     * never materialized as an intermediate Ballerina JSON value.
+     *
+     * @param key           The name of the member, i.e. {@code before} or {@code after}
+     * @param typedesc      The type descriptor of the intended type
+     * @param parserOptions The options of the {@code data.jsondata} parser
+     * @return The bound value, or a {@code BError} if the member cannot be bound to the intended type
+     */
+    public Object bindPayloadMember(String key, BTypedesc typedesc, BMap<BString, Object> parserOptions) {
+        BMap<BString, Object> payloadMember = getPayloadMember(key);
+        if (payloadMember == null) {
+            payloadMember = ValueCreator.createMapValue(TypeCreator.createMapType(PredefinedTypes.TYPE_JSON));
         }
-        return null;
+        return Native.parseAsType(payloadMember, parserOptions, typedesc);
     }
 
-    public String getDatabase() {
-        return getSourceMember(DB);
-    }
+    public abstract String getDatabase();
 
-    public String getSchema() {
-        return getSourceMember(SCHEMA);
-    }
+    public abstract String getSchema();
 
-    public String getTable() {
-        return getSourceMember(TABLE);
-    }
+    public abstract String getTable();
 
-    public String getOp() {
-        return Optional.ofNullable(payload.get(OP))
-                .map(JsonElement::getAsString)
-                .orElse(null);
-    }
+    public abstract String getOp();
 
-    @Override
-    public String toString() {
-        return this.payload.toString();
-    }
+    /**
+     * Returns the time at which the change was committed in the source database, as read from the
+     * {@code source.ts_ms} member.
+     *
+     * @return The commit time in epoch milliseconds, or {@code -1} if the event does not carry it
+     */
+    public abstract long getSourceTimestamp();
 
-    private JsonObject getSource() {
-        return payload.getAsJsonObject(SOURCE);
-    }
+    /**
+     * Returns the time at which the connector processed the change, as read from the {@code ts_ms} member.
+     *
+     * @return The processing time in epoch milliseconds, or {@code -1} if the event does not carry it
+     */
+    public abstract long getEventTimestamp();
 
-    private String getSourceMember(String key) {
-        return Optional.ofNullable(getSource())
-                .map(source -> source.get(key))
-                .map(JsonElement::getAsString)
-                .orElse(null);
-    }
+    /**
+     * Returns the JSON string representation of the payload, which is used when reporting errors.
+     *
+     * @return The JSON string of the payload
+     */
+    @Override
+    public abstract String toString();
 }
@@ -17,22 +17,31 @@
  */
 package io.ballerina.lib.cdc.models;
 
+import io.ballerina.runtime.api.concurrent.StrandMetadata;
+import io.ballerina.runtime.api.creators.ValueCreator;
 import io.ballerina.runtime.api.types.MethodType;
 import io.ballerina.runtime.api.types.ObjectType;
 import io.ballerina.runtime.api.types.Parameter;
 import io.ballerina.runtime.api.types.Type;
 import io.ballerina.runtime.api.utils.TypeUtils;
+import io.ballerina.runtime.api.values.BMap;
 import io.ballerina.runtime.api.values.BObject;
+import io.ballerina.runtime.api.values.BString;
 
 import java.util.HashMap;
 import java.util.Map;
 
+import static io.ballerina.lib.cdc.utils.Constants.ALLOW_DATA_PROJECTION;
+import static io.ballerina.lib.cdc.utils.Constants.ENABLE_CONSTRAINT_VALIDATION;
+import static io.ballerina.lib.cdc.utils.Constants.PARSER_AS_TYPE_OPTIONS;
+import static io.ballerina.lib.cdc.utils.Constants.ServiceMethodNames.ON_BATCH;
 import static io.ballerina.lib.cdc.utils.Constants.ServiceMethodNames.ON_CREATE;
 import static io.ballerina.lib.cdc.utils.Constants.ServiceMethodNames.ON_DELETE;
 import static io.ballerina.lib.cdc.utils.Constants.ServiceMethodNames.ON_ERROR;
 import static io.ballerina.lib.cdc.utils.Constants.ServiceMethodNames.ON_READ;
 import static io.ballerina.lib.cdc.utils.Constants.ServiceMethodNames.ON_TRUNCATE;
 import static io.ballerina.lib.cdc.utils.Constants.ServiceMethodNames.ON_UPDATE;
+import static java.lang.Boolean.FALSE;
 
 
 /**
@@ -45,14 +54,31 @@ public class Service {
     private final boolean isServiceIsolated;
     private final boolean isOnErrorPresent;
     private final boolean isOnErrorMethodIsolated;
+    private final StrandMetadata onErrorStrandMetadata;
+    private final BMap<BString, Object> parserOptions;
+    private final boolean isCompacted;
+    private BatchMethod batchMethod;
 
     /**
      * Constructs a Service object by analyzing the given Ballerina service object.
      * */
     public Service(BObject service) {
+        this(service, false);
+    }
+
+    /**
+     * Constructs a Service object by analyzing the given Ballerina service object.
+     *
+     * @param service     The Ballerina service object
+     * @param isCompacted Indicates if the change events of the same row within a batch are compacted into a single
+     *                    change event before they are dispatched to the service
+     */
+    public Service(BObject service, boolean isCompacted) {
         this.service = service;
+        this.isCompacted = isCompacted;
         ObjectType serviceType = (ObjectType) TypeUtils.getReferredType(TypeUtils.getType(service));
         this.isServiceIsolated = serviceType.isIsolated();
+        this.parserOptions = createParserOptions();
 
         boolean onErrorPresent = false;
         boolean onErrorIsolated = false;
@@ -71,6 +97,9 @@ public class Service {
                         parameters.length == 3, isolated);
                 case ON_TRUNCATE -> addMethod(methodName, null, null,
                         parameters.length == 1, isolated);
+                case ON_BATCH -> this.batchMethod = new BatchMethod(
+                        ValueCreator.createTypedescValue(TypeUtils.getReferredType(parameters[0].type)),
+                        new StrandMetadata(this.isServiceIsolated && isolated, null), this.parserOptions);
                 case ON_ERROR -> {
                     onErrorPresent = true;
                     onErrorIsolated = isolated;
@@ -83,10 +112,20 @@ public class Service {
 
         this.isOnErrorPresent = onErrorPresent;
         this.isOnErrorMethodIsolated = onErrorIsolated;
+        this.onErrorStrandMetadata = new StrandMetadata(this.isServiceIsolated && onErrorIsolated, null);
     }
 
     private void addMethod(String methodName, Type beforeType, Type afterType, boolean hasTable, boolean isolated) {
-        this.methods.put(methodName, new Method(beforeType, afterType, hasTable, isolated));
+        this.methods.put(methodName, new Method(methodName, beforeType, afterType, hasTable, isolated,
+                this.isServiceIsolated, this.parserOptions));
+    }
+
+    private static BMap<BString, Object> createParserOptions() {
+        Map<String, Object> jsonDataOptions = new HashMap<>();
+        jsonDataOptions.put(ENABLE_CONSTRAINT_VALIDATION, FALSE);
+        jsonDataOptions.put(ALLOW_DATA_PROJECTION, FALSE);
+        return ValueCreator.createRecordValue(io.ballerina.lib.data.ModuleUtils.getModule(),
+                PARSER_AS_TYPE_OPTIONS, jsonDataOptions);
     }
 
     public BObject getService() {
@@ -105,7 +144,46 @@ public class Service {
         return this.isOnErrorMethodIsolated;
     }
 
+    public StrandMetadata getOnErrorStrandMetadata() {
+        return this.onErrorStrandMetadata;
+    }
+
+    public boolean isCompacted() {
+        return this.isCompacted;
+    }
+
     public Method getMethod(String functionName) {
         return this.methods.get(functionName);
     }
+
+    /**
+     * Returns the {@code onBatch} method of the service. When it is present, all the change events of the service
+     * are delivered to it instead of to the methods of the individual operations.
+     *
+     * @return The {@code onBatch} method, or null if the service does not implement it.
+     */
+    public BatchMethod getBatchMethod() {
+        return this.batchMethod;
+    }
+
+    /**
+     * Checks if all the methods of the service can be invoked concurrently, i.e. if the service and all of its
+     * methods are isolated.
+     *
+     * @return True if the methods can be invoked concurrently, false otherwise.
+     */
+    public boolean isConcurrencySafe() {
+        if (this.isOnErrorPresent && !this.onErrorStrandMetadata.isConcurrentSafe()) {
+            return false;
+        }
+        for (Method method : this.methods.values()) {
+            if (!method.strandMetadata().isConcurrentSafe()) {
+                return false;
+            }
+        }
+        if (this.batchMethod != null && !this.batchMethod.strandMetadata().isConcurrentSafe()) {
+            return false;
+        }
+        return this.isServiceIsolated;
+    }
 }
@@ -0,0 +1,292 @@
+/**
+ * Copyright (c) 2025, WSO2 LLC. (https://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.ballerina.lib.cdc.storage;
+
+import io.debezium.config.Configuration;
+import io.debezium.document.Array;
+import io.debezium.document.Document;
+import io.debezium.document.DocumentReader;
+import io.debezium.document.DocumentWriter;
+import io.debezium.relational.history.AbstractSchemaHistory;
+import io.debezium.relational.history.HistoryRecord;
+import io.debezium.relational.history.HistoryRecordComparator;
+import io.debezium.relational.history.SchemaHistoryException;
+import io.debezium.relational.history.SchemaHistoryListener;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+
+/**
+ * A file schema history which periodically compacts the recorded schema changes into a snapshot of the tables.
+ * <p>
+ * Unlike {@code FileSchemaHistory}, which keeps every schema change ever recorded, once the number of records appended
+ * since the last compaction reaches the compaction threshold, the oldest records are replaced by a single record,
+ * which creates each of the tables with its definition as of the last compacted change, at the position of that
+ * change. Recovery therefore replays the snapshot and the remaining records, instead of every schema change.
+ * <p>
+ * Recovery only replays the records at or before the committed offsets, so only the records at or before the offsets
+ * the history was last recovered up to are compacted. The committed offsets never move back from those offsets, so
+ * the snapshot is always replayed by a later recovery. Until the history is recovered, such as while the initial
+ * snapshot of a new connector is taken, nothing is compacted. The most recent records are never compacted, even when
+ * they are before the recovered offsets.
+ * <p>
+ * Records without table changes, such as the statements which set the character sets, are kept in front of the
+ * snapshot, as they cannot be expressed through the table definitions. Only the last of the identical records among
+ * them is kept, as such statements are recorded again whenever a snapshot is taken.
+ */
+public class CompactedFileSchemaHistory extends AbstractSchemaHistory {
+
+    public static final String FILE_PATH = "schema.history.internal.file.filename";
+    public static final String COMPACTION_THRESHOLD = "schema.history.internal.compaction.threshold";
+    public static final String RETAINED_RECORDS = "schema.history.internal.compaction.retained.records";
+
+    private static final int DEFAULT_COMPACTION_THRESHOLD = 1000;
+    private static final int DEFAULT_RETAINED_RECORDS = 100;
+
+    private static final String SOURCE = "source";
+    private static final String POSITION = "position";
+    private static final String TABLE_CHANGES = "tableChanges";
+    private static final String DATABASE_NAME = "databaseName";
+    private static final String SCHEMA_NAME = "schemaName";
+    private static final String DDL = "ddl";
+    private static final String CHANGE_TYPE = "type";
+    private static final String CHANGE_ID = "id";
+    private static final String CHANGE_TABLE = "table";
+    private static final String CREATE = "CREATE";
+    private static final String DROP = "DROP";
+
+    private final DocumentReader reader = DocumentReader.defaultReader();
+    private final DocumentWriter writer = DocumentWriter.defaultWriter();
+    private final List<HistoryRecord> records = new ArrayList<>();
+    // The offsets the history was last recovered up to, keyed by the source partition
+    private final Map<Document, HistoryRecord> recoveredOffsets = new HashMap<>();
+
+    private HistoryRecordComparator comparator;
+    private Path file;
+    private int compactionThreshold;
+    private int retainedRecords;
+    private int appendedRecords;
+    private boolean isLoaded;
+
+    @Override
+    public void configure(Configuration config, HistoryRecordComparator comparator, SchemaHistoryListener listener,
+                          boolean useCatalogBeforeSchema) {
+        this.comparator = comparator != null ? comparator : HistoryRecordComparator.INSTANCE;
+        super.configure(config, new RecoveryTrackingComparator(), listener, useCatalogBeforeSchema);
+        this.file = Paths.get(config.getString(FILE_PATH));
+        this.compactionThreshold = config.getInteger(COMPACTION_THRESHOLD, DEFAULT_COMPACTION_THRESHOLD);
+        this.retainedRecords = config.getInteger(RETAINED_RECORDS, DEFAULT_RETAINED_RECORDS);
+    }
+
+    @Override
+    public synchronized void start() {
+        super.start();
+        try {
+            load();
+        } catch (IOException e) {
+            throw new SchemaHistoryException("Failed to load the schema history from '" + this.file + "'.", e);
+        }
+    }
+
+    @Override
+    protected synchronized void storeRecord(HistoryRecord record) throws SchemaHistoryException {
+        try {
+            String line = this.writer.write(record.document()) + System.lineSeparator();
+            Files.writeString(this.file, line, StandardCharsets.UTF_8, StandardOpenOption.CREATE,
+                    StandardOpenOption.APPEND, StandardOpenOption.SYNC);
+        } catch (IOException e) {
+            throw new SchemaHistoryException("Failed to store the schema history in '" + this.file + "'.", e);
+        }
+        this.records.add(record);
+        if (++this.appendedRecords >= this.compactionThreshold && this.records.size() > this.retainedRecords + 1) {
+            compact();
+        }
+    }
+
+    @Override
+    protected synchronized void recoverRecords(Consumer<HistoryRecord> consumer) {
+        this.records.forEach(consumer);
+    }
+
+    @Override
+    public synchronized boolean exists() {
+        if (this.isLoaded) {
+            return !this.records.isEmpty();
+        }
+        try {
+            return storageExists() && Files.size(this.file) > 0;
+        } catch (IOException e) {
+            throw new SchemaHistoryException("Failed to read the schema history from '" + this.file + "'.", e);
+        }
+    }
+
+    @Override
+    public boolean storageExists() {
+        return Files.exists(this.file);
+    }
+
+    @Override
+    public void initializeStorage() {
+        try {
+            if (this.file.getParent() != null) {
+                Files.createDirectories(this.file.getParent());
+            }
+            if (!Files.exists(this.file)) {
+                Files.createFile(this.file);
+            }
+        } catch (IOException e) {
+            throw new SchemaHistoryException("Failed to create the schema history file '" + this.file + "'.", e);
+        }
+    }
+
+    private void load() throws IOException {
+        this.records.clear();
+        this.appendedRecords = 0;
+        this.isLoaded = true;
+        if (!storageExists()) {
+            initializeStorage();
+            return;
+        }
+        boolean isTruncated = false;
+        try (BufferedReader lines = Files.newBufferedReader(this.file, StandardCharsets.UTF_8)) {
+            String line;
+            while ((line = lines.readLine()) != null) {
+                if (line.isBlank()) {
+                    continue;
+                }
+                try {
+                    this.records.add(new HistoryRecord(this.reader.read(line)));
+                } catch (IOException e) {
+                    // The last record was not completely written before the connector stopped
+                    isTruncated = true;
+                    break;
+                }
+            }
+        }
+        if (isTruncated) {
+            write(this.records);
+        }
+    }
+
+    // Replaces the oldest records, up to the recovered offsets, with the snapshot of the tables they define
+    private void compact() {
+        this.appendedRecords = 0;
+        int compactableCount = this.records.size() - this.retainedRecords;
+        int compactedCount = 0;
+        while (compactedCount < compactableCount && isRecovered(this.records.get(compactedCount))) {
+            compactedCount++;
+        }
+        Map<String, Document> tables = new LinkedHashMap<>();
+        Map<List<String>, HistoryRecord> statements = new LinkedHashMap<>();
+        HistoryRecord lastTableChange = null;
+        for (HistoryRecord record : this.records.subList(0, compactedCount)) {
+            Array changes = record.tableChanges();
+            if (changes == null || changes.size() == 0) {
+                Document document = record.document();
+                List<String> statement = Arrays.asList(document.getString(DATABASE_NAME),
+                        document.getString(SCHEMA_NAME), document.getString(DDL));
+                // Keeps the last of the identical statements, in the order of their last occurrence
+                statements.remove(statement);
+                statements.put(statement, record);
+                continue;
+            }
+            for (Array.Entry entry : changes) {
+                Document change = entry.getValue().asDocument();
+                String tableId = change.getString(CHANGE_ID);
+                if (DROP.equals(change.getString(CHANGE_TYPE))) {
+                    tables.remove(tableId);
+                } else {
+                    tables.put(tableId, change.getDocument(CHANGE_TABLE));
+                }
+            }
+            lastTableChange = record;
+        }
+        if (lastTableChange == null) {
+            return;
+        }
+
+        // The snapshot takes the position of the last change it includes, so that it is recovered along with it
+        Array snapshotChanges = Array.create();
+        tables.forEach((tableId, table) -> {
+            Document change = Document.create();
+            change.setString(CHANGE_TYPE, CREATE);
+            change.setString(CHANGE_ID, tableId);
+            change.setDocument(CHANGE_TABLE, table);
+            snapshotChanges.add(change);
+        });
+        Document snapshot = Document.create();
+        snapshot.setDocument(SOURCE, lastTableChange.document().getDocument(SOURCE));
+        snapshot.setDocument(POSITION, lastTableChange.document().getDocument(POSITION));
+        snapshot.setArray(TABLE_CHANGES, snapshotChanges);
+        List<HistoryRecord> compacted = new ArrayList<>(statements.values());
+        compacted.add(new HistoryRecord(snapshot));
+        compacted.addAll(this.records.subList(compactedCount, this.records.size()));
+
+        try {
+            write(compacted);
+        } catch (IOException e) {
+            throw new SchemaHistoryException("Failed to compact the schema history in '" + this.file + "'.", e);
+        }
+        this.records.clear();
+        this.records.addAll(compacted);
+    }
+
+    private boolean isRecovered(HistoryRecord record) {
+        HistoryRecord offset = this.recoveredOffsets.get(record.document().getDocument(SOURCE));
+        return offset != null && this.comparator.isAtOrBefore(record, offset);
+    }
+
+    // Writes the given records into a new file, which replaces the current file once it is written
+    private void write(List<HistoryRecord> history) throws IOException {
+        Path compactedFile = this.file.resolveSibling(this.file.getFileName() + ".compacted");
+        try (BufferedWriter lines = Files.newBufferedWriter(compactedFile, StandardCharsets.UTF_8)) {
+            for (HistoryRecord record : history) {
+                lines.write(this.writer.write(record.document()));
+                lines.newLine();
+            }
+        }
+        Files.move(compactedFile, this.file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    // Delegates to the comparator of the connector, while remembering the offsets which the records are recovered up
+    // to, as the recovery compares each record with the committed offset of its source partition
+    private final class RecoveryTrackingComparator extends HistoryRecordComparator {
+
+        @Override
+        public boolean isAtOrBefore(HistoryRecord recorded, HistoryRecord desired) {
+            synchronized (CompactedFileSchemaHistory.this) {
+                recoveredOffsets.put(desired.document().getDocument(SOURCE), desired);
+            }
+            return comparator.isAtOrBefore(recorded, desired);
+        }
+    }
+}
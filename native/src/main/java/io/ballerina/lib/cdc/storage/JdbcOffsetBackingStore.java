@@ -0,0 +1,189 @@
+/**
+ * Copyright (c) 2025, WSO2 LLC. (https://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.ballerina.lib.cdc.storage;
+
+import org.apache.kafka.connect.errors.ConnectException;
+import org.apache.kafka.connect.runtime.WorkerConfig;
+import org.apache.kafka.connect.storage.MemoryOffsetBackingStore;
+import org.apache.kafka.connect.util.Callback;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Map;
+import java.util.concurrent.Future;
+
+/**
+ * An offset backing store which keeps the committed offsets in a relational database table.
+ * <p>
+ * The offsets changed by a flush are written in a single transaction, by deleting their previous rows and inserting
+ * the new rows as two JDBC batches, so that a flush takes the same number of round trips regardless of the number of
+ * offsets it commits. The table is created on start if it does not exist, with the offsets in the large text type
+ * of the database, as the GTID sets of MySQL offsets can be long. The connection is validated before each flush, and
+ * replaced if the database has closed it. The JDBC driver of the database is expected to be available in the
+ * classpath.
+ */
+public class JdbcOffsetBackingStore extends MemoryOffsetBackingStore {
+
+    public static final String OFFSET_STORAGE_JDBC_URL = "offset.storage.jdbc.connection.url";
+    public static final String OFFSET_STORAGE_JDBC_USER = "offset.storage.jdbc.connection.user";
+    public static final String OFFSET_STORAGE_JDBC_PASSWORD = "offset.storage.jdbc.connection.password";
+    public static final String OFFSET_STORAGE_JDBC_TABLE_NAME = "offset.storage.jdbc.table.name";
+
+    private static final String DEFAULT_TABLE_NAME = "bal_cdc_offsets";
+
+    private String url;
+    private String user;
+    private String password;
+    private String tableName;
+    private Connection connection;
+
+    @Override
+    public void configure(WorkerConfig config) {
+        super.configure(config);
+        Map<String, String> properties = config.originalsStrings();
+        this.url = properties.get(OFFSET_STORAGE_JDBC_URL);
+        this.user = properties.get(OFFSET_STORAGE_JDBC_USER);
+        this.password = properties.get(OFFSET_STORAGE_JDBC_PASSWORD);
+        this.tableName = properties.getOrDefault(OFFSET_STORAGE_JDBC_TABLE_NAME, DEFAULT_TABLE_NAME);
+    }
+
+    @Override
+    public synchronized void start() {
+        super.start();
+        try {
+            this.connection = JdbcTables.getValidConnection(null, this.url, this.user, this.password);
+            createTable();
+            load();
+            this.connection.setAutoCommit(false);
+        } catch (SQLException e) {
+            throw new ConnectException("Failed to load the offsets from the '" + this.tableName + "' table.", e);
+        }
+    }
+
+    @Override
+    public void stop() {
+        // The pending writes are completed before the connection is closed
+        super.stop();
+        closeConnection();
+    }
+
+    private synchronized void closeConnection() {
+        if (this.connection == null) {
+            return;
+        }
+        try {
+            this.connection.close();
+        } catch (SQLException e) {
+            throw new ConnectException("Failed to close the connection of the offset storage.", e);
+        } finally {
+            this.connection = null;
+        }
+    }
+
+    @Override
+    public Future<Void> set(Map<ByteBuffer, ByteBuffer> values, Callback<Void> callback) {
+        return executor.submit(() -> {
+            try {
+                for (Map.Entry<ByteBuffer, ByteBuffer> entry : values.entrySet()) {
+                    if (entry.getValue() == null) {
+                        data.remove(entry.getKey());
+                    } else {
+                        data.put(entry.getKey(), entry.getValue());
+                    }
+                }
+                write(values);
+            } catch (SQLException | RuntimeException e) {
+                if (callback != null) {
+                    callback.onCompletion(e, null);
+                }
+                throw new ConnectException("Failed to store the offsets in the '" + this.tableName + "' table.", e);
+            }
+            if (callback != null) {
+                callback.onCompletion(null, null);
+            }
+            return null;
+        });
+    }
+
+    private void createTable() throws SQLException {
+        if (JdbcTables.exists(this.connection, this.tableName)) {
+            return;
+        }
+        try (Statement statement = this.connection.createStatement()) {
+            statement.execute("CREATE TABLE " + this.tableName + " (offset_key VARCHAR(512) NOT NULL PRIMARY KEY, "
+                    + "offset_value " + JdbcTables.getLargeTextType(this.connection) + " NOT NULL)");
+        }
+    }
+
+    private void load() throws SQLException {
+        try (Statement statement = this.connection.createStatement();
+             ResultSet rows = statement.executeQuery("SELECT offset_key, offset_value FROM " + this.tableName)) {
+            while (rows.next()) {
+                data.put(toBuffer(rows.getString(1)), toBuffer(rows.getString(2)));
+            }
+        }
+    }
+
+    // Replaces the rows of the given offsets in a single transaction, the removed offsets are only deleted
+    private synchronized void write(Map<ByteBuffer, ByteBuffer> values) throws SQLException {
+        Connection validConnection = JdbcTables.getValidConnection(this.connection, this.url, this.user,
+                this.password);
+        if (validConnection != this.connection) {
+            validConnection.setAutoCommit(false);
+            this.connection = validConnection;
+        }
+        try (PreparedStatement delete = this.connection.prepareStatement(
+                "DELETE FROM " + this.tableName + " WHERE offset_key = ?");
+             PreparedStatement insert = this.connection.prepareStatement(
+                     "INSERT INTO " + this.tableName + " (offset_key, offset_value) VALUES (?, ?)")) {
+            for (Map.Entry<ByteBuffer, ByteBuffer> entry : values.entrySet()) {
+                String key = toString(entry.getKey());
+                delete.setString(1, key);
+                delete.addBatch();
+                if (entry.getValue() != null) {
+                    insert.setString(1, key);
+                    insert.setString(2, toString(entry.getValue()));
+                    insert.addBatch();
+                }
+            }
+            delete.executeBatch();
+            insert.executeBatch();
+            this.connection.commit();
+        } catch (SQLException e) {
+            this.connection.rollback();
+            throw e;
+        }
+    }
+
+    // The offsets are serialized as JSON by the engine, so they are stored as text
+    private static String toString(ByteBuffer buffer) {
+        ByteBuffer source = buffer.duplicate();
+        byte[] bytes = new byte[source.remaining()];
+        source.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private static ByteBuffer toBuffer(String value) {
+        return ByteBuffer.wrap(value.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,178 @@
+/**
+ * Copyright (c) 2025, WSO2 LLC. (https://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.ballerina.lib.cdc.storage;
+
+import io.debezium.config.Configuration;
+import io.debezium.document.DocumentReader;
+import io.debezium.document.DocumentWriter;
+import io.debezium.relational.history.AbstractSchemaHistory;
+import io.debezium.relational.history.HistoryRecord;
+import io.debezium.relational.history.HistoryRecordComparator;
+import io.debezium.relational.history.SchemaHistoryException;
+import io.debezium.relational.history.SchemaHistoryListener;
+
+import java.io.IOException;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.function.Consumer;
+
+/**
+ * A schema history which keeps the recorded schema changes in a relational database table.
+ * <p>
+ * Each schema change is inserted as a row, along with its sequence number, which orders the schema changes on
+ * recovery. The table is created when the storage is initialized, with the schema changes in the large text type
+ * of the database, as the schema change of a wide table can be large. The connection is validated before it is used,
+ * and replaced if the database has closed it. The JDBC driver of the database is expected to be available in the
+ * classpath.
+ */
+public class JdbcSchemaHistory extends AbstractSchemaHistory {
+
+    public static final String JDBC_URL = "schema.history.internal.jdbc.connection.url";
+    public static final String JDBC_USER = "schema.history.internal.jdbc.connection.user";
+    public static final String JDBC_PASSWORD = "schema.history.internal.jdbc.connection.password";
+    public static final String JDBC_TABLE_NAME = "schema.history.internal.jdbc.table.name";
+
+    private static final String DEFAULT_TABLE_NAME = "bal_cdc_schema_history";
+
+    private final DocumentReader reader = DocumentReader.defaultReader();
+    private final DocumentWriter writer = DocumentWriter.defaultWriter();
+
+    private String url;
+    private String user;
+    private String password;
+    private String tableName;
+    private Connection connection;
+    private long nextSequence = -1;
+
+    @Override
+    public void configure(Configuration config, HistoryRecordComparator comparator, SchemaHistoryListener listener,
+                          boolean useCatalogBeforeSchema) {
+        super.configure(config, comparator, listener, useCatalogBeforeSchema);
+        this.url = config.getString(JDBC_URL);
+        this.user = config.getString(JDBC_USER);
+        this.password = config.getString(JDBC_PASSWORD);
+        this.tableName = config.getString(JDBC_TABLE_NAME, DEFAULT_TABLE_NAME);
+    }
+
+    @Override
+    public synchronized void stop() {
+        super.stop();
+        if (this.connection == null) {
+            return;
+        }
+        try {
+            this.connection.close();
+        } catch (SQLException e) {
+            throw new SchemaHistoryException("Failed to close the connection of the schema history.", e);
+        } finally {
+            this.connection = null;
+        }
+    }
+
+    @Override
+    protected synchronized void storeRecord(HistoryRecord record) throws SchemaHistoryException {
+        try {
+            if (this.nextSequence < 0) {
+                this.nextSequence = readLastSequence() + 1;
+            }
+            try (PreparedStatement insert = getConnection().prepareStatement(
+                    "INSERT INTO " + this.tableName + " (history_sequence, history_data) VALUES (?, ?)")) {
+                insert.setLong(1, this.nextSequence);
+                insert.setString(2, this.writer.write(record.document()));
+                insert.executeUpdate();
+            }
+            this.nextSequence++;
+        } catch (SQLException | IOException e) {
+            throw new SchemaHistoryException("Failed to store the schema history in the '" + this.tableName
+                    + "' table.", e);
+        }
+    }
+
+    @Override
+    protected synchronized void recoverRecords(Consumer<HistoryRecord> consumer) {
+        try (Statement statement = getConnection().createStatement();
+             ResultSet rows = statement.executeQuery("SELECT history_data FROM " + this.tableName
+                     + " ORDER BY history_sequence")) {
+            while (rows.next()) {
+                consumer.accept(new HistoryRecord(this.reader.read(rows.getString(1))));
+            }
+        } catch (SQLException | IOException e) {
+            throw new SchemaHistoryException("Failed to recover the schema history from the '" + this.tableName
+                    + "' table.", e);
+        }
+    }
+
+    @Override
+    public synchronized boolean exists() {
+        if (!storageExists()) {
+            return false;
+        }
+        try (Statement statement = getConnection().createStatement();
+             ResultSet rows = statement.executeQuery("SELECT COUNT(*) FROM " + this.tableName)) {
+            return rows.next() && rows.getLong(1) > 0;
+        } catch (SQLException e) {
+            throw new SchemaHistoryException("Failed to read the schema history from the '" + this.tableName
+                    + "' table.", e);
+        }
+    }
+
+    @Override
+    public synchronized boolean storageExists() {
+        try {
+            return JdbcTables.exists(getConnection(), this.tableName);
+        } catch (SQLException e) {
+            throw new SchemaHistoryException("Failed to check the '" + this.tableName + "' table.", e);
+        }
+    }
+
+    @Override
+    public synchronized void initializeStorage() {
+        if (storageExists()) {
+            return;
+        }
+        try (Statement statement = getConnection().createStatement()) {
+            statement.execute("CREATE TABLE " + this.tableName + " (history_sequence BIGINT NOT NULL PRIMARY KEY, "
+                    + "history_data " + JdbcTables.getLargeTextType(getConnection()) + " NOT NULL)");
+        } catch (SQLException e) {
+            throw new SchemaHistoryException("Failed to create the '" + this.tableName + "' table.", e);
+        }
+    }
+
+    private long readLastSequence() throws SQLException {
+        try (Statement statement = getConnection().createStatement();
+             ResultSet rows = statement.executeQuery("SELECT MAX(history_sequence) FROM " + this.tableName)) {
+            if (rows.next()) {
+                long sequence = rows.getLong(1);
+                return rows.wasNull() ? -1 : sequence;
+            }
+            return -1;
+        }
+    }
+
+    private Connection getConnection() {
+        try {
+            this.connection = JdbcTables.getValidConnection(this.connection, this.url, this.user, this.password);
+            return this.connection;
+        } catch (SQLException e) {
+            throw new SchemaHistoryException("Failed to connect to the schema history database.", e);
+        }
+    }
+}
@@ -0,0 +1,145 @@
+/**
+ * Copyright (c) 2025, WSO2 LLC. (https://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.ballerina.lib.cdc.storage;
+
+import java.sql.Connection;
+import java.sql.DatabaseMetaData;
+import java.sql.DriverManager;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.SQLNonTransientConnectionException;
+import java.sql.SQLRecoverableException;
+import java.sql.SQLTransientException;
+import java.sql.Statement;
+import java.util.Locale;
+
+/**
+ * Creates the tables of the JDBC storages in a way which is portable across databases.
+ * <p>
+ * The offsets and the schema changes are stored as serialized JSON, which is unbounded. A MySQL GTID set of a
+ * long-lived server with several sources can exceed several kilobytes, and the schema change of a wide table can
+ * exceed the 64 KB of a MySQL {@code TEXT} column. They are therefore stored in the large text type of the database.
+ * <p>
+ * The storages keep a connection for the life of the listener, which the database closes on a restart, a failover
+ * or an idle timeout, such as the {@code wait_timeout} of MySQL. The connection is therefore validated before it is
+ * used, and replaced if it is closed.
+ */
+final class JdbcTables {
+
+    private static final int VALIDATION_TIMEOUT_SECONDS = 5;
+
+    private JdbcTables() {
+    }
+
+    /**
+     * Returns the column type of the database which holds text of any length.
+     *
+     * @param connection The connection to the database
+     * @return The column type
+     * @throws SQLException If the database cannot be identified
+     */
+    static String getLargeTextType(Connection connection) throws SQLException {
+        String product = connection.getMetaData().getDatabaseProductName().toLowerCase(Locale.ROOT);
+        if (product.contains("mysql") || product.contains("mariadb")) {
+            return "LONGTEXT";
+        }
+        if (product.contains("postgresql")) {
+            return "TEXT";
+        }
+        if (product.contains("microsoft")) {
+            return "NVARCHAR(MAX)";
+        }
+        // Oracle, DB2, H2, Derby and HSQLDB
+        return "CLOB";
+    }
+
+    /**
+     * Returns the given connection if it is still valid, or a new connection to the database otherwise.
+     *
+     * @param connection The connection to validate, or null if there is no connection yet
+     * @param url        The JDBC URL of the database
+     * @param user       The user of the database
+     * @param password   The password of the user
+     * @return A valid connection to the database
+     * @throws SQLException If the database cannot be connected
+     */
+    static Connection getValidConnection(Connection connection, String url, String user, String password)
+            throws SQLException {
+        if (connection != null) {
+            if (connection.isValid(VALIDATION_TIMEOUT_SECONDS)) {
+                return connection;
+            }
+            try {
+                connection.close();
+            } catch (SQLException ignored) {
+                // The connection is already closed by the database
+            }
+        }
+        return DriverManager.getConnection(url, user, password);
+    }
+
+    /**
+     * Checks if the given table exists. The check queries the table, as {@code CREATE TABLE IF NOT EXISTS} and the
+     * case of the table names in the database metadata differ across databases. A failed query is only taken as a
+     * missing table if it is not a connection failure, and the table is not listed in the database metadata.
+     *
+     * @param connection The connection to the database, which must be in the auto-commit mode, so that the failed
+     *                   query does not abort a transaction
+     * @param tableName  The name of the table
+     * @return True if the table exists
+     * @throws SQLException If the table cannot be queried for a reason other than the table being missing
+     */
+    static boolean exists(Connection connection, String tableName) throws SQLException {
+        try (Statement statement = connection.createStatement();
+             ResultSet ignored = statement.executeQuery("SELECT 1 FROM " + tableName + " WHERE 1 = 0")) {
+            return true;
+        } catch (SQLException e) {
+            if (e instanceof SQLTransientException || e instanceof SQLRecoverableException
+                    || e instanceof SQLNonTransientConnectionException || isListed(connection, tableName)) {
+                throw e;
+            }
+            return false;
+        }
+    }
+
+    // Looks up the table in the database metadata in the case in which it is given, and in the upper and lower cases
+    // in which the databases store unquoted names
+    private static boolean isListed(Connection connection, String tableName) throws SQLException {
+        DatabaseMetaData metaData = connection.getMetaData();
+        int separator = tableName.lastIndexOf('.');
+        String schema = separator < 0 ? null : escape(metaData, tableName.substring(0, separator));
+        String table = escape(metaData, tableName.substring(separator + 1));
+        for (String name : new String[]{table, table.toUpperCase(Locale.ROOT), table.toLowerCase(Locale.ROOT)}) {
+            try (ResultSet tables = metaData.getTables(null, schema, name, null)) {
+                if (tables.next()) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    // The names are patterns in the database metadata, in which underscores match any character
+    private static String escape(DatabaseMetaData metaData, String name) throws SQLException {
+        String escape = metaData.getSearchStringEscape();
+        if (escape == null || escape.isEmpty()) {
+            return name;
+        }
+        return name.replace(escape, escape + escape).replace("_", escape + "_").replace("%", escape + "%");
+    }
+}
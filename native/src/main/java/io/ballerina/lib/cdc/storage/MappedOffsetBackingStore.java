@@ -0,0 +1,232 @@
+/**
+ * Copyright (c) 2025, WSO2 LLC. (https://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.ballerina.lib.cdc.storage;
+
+import org.apache.kafka.connect.errors.ConnectException;
+import org.apache.kafka.connect.runtime.WorkerConfig;
+import org.apache.kafka.connect.storage.MemoryOffsetBackingStore;
+import org.apache.kafka.connect.util.Callback;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.Map;
+import java.util.concurrent.Future;
+import java.util.zip.CRC32;
+
+/**
+ * An offset backing store which appends the committed offsets to a memory-mapped log file.
+ * <p>
+ * Unlike {@code FileOffsetBackingStore}, which rewrites all the offsets on every flush, only the offsets changed by a
+ * flush are appended to the log, so that the offsets can be committed frequently. Once the log fills half of its
+ * mapped size, it is compacted on the executor of the store, by rewriting the latest offsets into a new log.
+ * <p>
+ * Each entry of the log is written as its length, its CRC32 checksum, and the key and value of the offset. On start,
+ * the log is scanned up to the first incomplete or corrupted entry, which is where an interrupted flush stopped.
+ */
+public class MappedOffsetBackingStore extends MemoryOffsetBackingStore {
+
+    public static final String OFFSET_STORAGE_FILE_FILENAME = "offset.storage.file.filename";
+    public static final String OFFSET_STORAGE_LOG_SIZE = "offset.storage.log.size";
+
+    private static final int DEFAULT_LOG_SIZE = 16 * 1024 * 1024;
+    // The length and the checksum of an entry
+    private static final int ENTRY_HEADER_SIZE = Integer.BYTES + Long.BYTES;
+    // The value length which marks an offset that is removed
+    private static final int TOMBSTONE = -1;
+
+    private Path file;
+    private int logSize;
+    private MappedByteBuffer log;
+
+    @Override
+    public void configure(WorkerConfig config) {
+        super.configure(config);
+        Map<String, String> properties = config.originalsStrings();
+        this.file = Paths.get(properties.get(OFFSET_STORAGE_FILE_FILENAME));
+        String logSize = properties.get(OFFSET_STORAGE_LOG_SIZE);
+        this.logSize = logSize == null ? DEFAULT_LOG_SIZE : Integer.parseInt(logSize);
+    }
+
+    @Override
+    public synchronized void start() {
+        super.start();
+        try {
+            load();
+        } catch (IOException e) {
+            throw new ConnectException("Failed to load the offsets from '" + this.file + "'.", e);
+        }
+    }
+
+    @Override
+    public Future<Void> set(Map<ByteBuffer, ByteBuffer> values, Callback<Void> callback) {
+        return executor.submit(() -> {
+            try {
+                for (Map.Entry<ByteBuffer, ByteBuffer> entry : values.entrySet()) {
+                    if (entry.getValue() == null) {
+                        data.remove(entry.getKey());
+                    } else {
+                        data.put(entry.getKey(), entry.getValue());
+                    }
+                }
+                append(values);
+            } catch (IOException | RuntimeException e) {
+                if (callback != null) {
+                    callback.onCompletion(e, null);
+                }
+                throw new ConnectException("Failed to store the offsets in '" + this.file + "'.", e);
+            }
+            if (callback != null) {
+                callback.onCompletion(null, null);
+            }
+            if (this.log.position() > this.log.capacity() / 2 && !executor.isShutdown()) {
+                executor.submit(this::compact);
+            }
+            return null;
+        });
+    }
+
+    private void load() throws IOException {
+        if (this.file.getParent() != null) {
+            Files.createDirectories(this.file.getParent());
+        }
+        long fileSize = Files.exists(this.file) ? Files.size(this.file) : 0;
+        this.log = map(this.file, (int) Math.max(this.logSize, fileSize));
+        while (readEntry()) {
+            // The offsets are read into the store until the end of the log
+        }
+    }
+
+    // Reads the entry at the current position of the log into the store. The position is left at the start of the
+    // entry if it is incomplete or corrupted, so that the next entry is appended over it
+    private boolean readEntry() {
+        int start = this.log.position();
+        if (this.log.remaining() < ENTRY_HEADER_SIZE) {
+            return false;
+        }
+        int length = this.log.getInt();
+        long checksum = this.log.getLong();
+        if (length <= 0 || length > this.log.remaining()) {
+            this.log.position(start);
+            return false;
+        }
+        byte[] body = new byte[length];
+        this.log.get(body);
+        CRC32 crc = new CRC32();
+        crc.update(body);
+        if (crc.getValue() != checksum) {
+            this.log.position(start);
+            return false;
+        }
+
+        ByteBuffer entry = ByteBuffer.wrap(body);
+        byte[] key = new byte[entry.getInt()];
+        entry.get(key);
+        int valueLength = entry.getInt();
+        if (valueLength == TOMBSTONE) {
+            data.remove(ByteBuffer.wrap(key));
+        } else {
+            byte[] value = new byte[valueLength];
+            entry.get(value);
+            data.put(ByteBuffer.wrap(key), ByteBuffer.wrap(value));
+        }
+        return true;
+    }
+
+    private void append(Map<ByteBuffer, ByteBuffer> values) throws IOException {
+        int start = this.log.position();
+        for (Map.Entry<ByteBuffer, ByteBuffer> entry : values.entrySet()) {
+            byte[] body = encodeEntry(entry.getKey(), entry.getValue());
+            if (this.log.remaining() < ENTRY_HEADER_SIZE + body.length) {
+                // The log is full, so all the offsets are rewritten into a new log, including the current ones
+                compact();
+                return;
+            }
+            writeEntry(this.log, body);
+        }
+        this.log.force(start, this.log.position() - start);
+    }
+
+    // Rewrites the latest offsets into a new log, which replaces the current log once it is written
+    private void compact() {
+        try {
+            byte[][] bodies = new byte[data.size()][];
+            int size = 0;
+            int index = 0;
+            for (Map.Entry<ByteBuffer, ByteBuffer> entry : data.entrySet()) {
+                bodies[index] = encodeEntry(entry.getKey(), entry.getValue());
+                size += ENTRY_HEADER_SIZE + bodies[index].length;
+                index++;
+            }
+
+            Path compactedFile = this.file.resolveSibling(this.file.getFileName() + ".compacted");
+            Files.deleteIfExists(compactedFile);
+            // The log is kept at most half full after the compaction, so that it is not compacted again right away
+            MappedByteBuffer compactedLog = map(compactedFile, Math.max(this.logSize, 2 * size + ENTRY_HEADER_SIZE));
+            for (byte[] body : bodies) {
+                writeEntry(compactedLog, body);
+            }
+            compactedLog.force();
+            Files.move(compactedFile, this.file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            this.log = compactedLog;
+        } catch (IOException e) {
+            throw new ConnectException("Failed to compact the offsets in '" + this.file + "'.", e);
+        }
+    }
+
+    private static MappedByteBuffer map(Path file, int size) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.READ,
+                StandardOpenOption.WRITE)) {
+            // The mapping remains valid after the channel is closed
+            return channel.map(FileChannel.MapMode.READ_WRITE, 0, size);
+        }
+    }
+
+    private static byte[] encodeEntry(ByteBuffer key, ByteBuffer value) {
+        byte[] keyBytes = toBytes(key);
+        byte[] valueBytes = value == null ? null : toBytes(value);
+        int valueLength = valueBytes == null ? 0 : valueBytes.length;
+        ByteBuffer body = ByteBuffer.allocate(2 * Integer.BYTES + keyBytes.length + valueLength);
+        body.putInt(keyBytes.length).put(keyBytes);
+        if (valueBytes == null) {
+            body.putInt(TOMBSTONE);
+        } else {
+            body.putInt(valueBytes.length).put(valueBytes);
+        }
+        return body.array();
+    }
+
+    private static void writeEntry(MappedByteBuffer log, byte[] body) {
+        CRC32 crc = new CRC32();
+        crc.update(body);
+        log.putInt(body.length).putLong(crc.getValue()).put(body);
+    }
+
+    private static byte[] toBytes(ByteBuffer buffer) {
+        ByteBuffer source = buffer.duplicate();
+        byte[] bytes = new byte[source.remaining()];
+        source.get(bytes);
+        return bytes;
+    }
+}
@@ -32,6 +32,45 @@ public final class Constants {
     // cdc:ServiceConfig Annotation
     public static final String ANN_NAME_EVENTS_FROM = "ServiceConfig";
     public static final BString ANN_CONFIG_TABLES = StringUtils.fromString("tables");
+    public static final BString ANN_CONFIG_COMPACT = StringUtils.fromString("compact");
+
+    // Debezium JSON converter configuration
+    public static final String CONVERTER_SCHEMAS_ENABLE = "converter.schemas.enable";
+    public static final String TRANSFORMS = "transforms";
+
+    // Debezium engine configuration
+    public static final String ENGINE_NAME = "name";
+    public static final String ENGINE_BUILDER_FACTORY = "io.debezium.embedded.ConvertingEngineBuilderFactory";
+    public static final String ASYNC_ENGINE_BUILDER_FACTORY =
+            "io.debezium.embedded.async.ConvertingAsyncEngineBuilderFactory";
+    public static final String RECORD_PROCESSING_THREADS = "record.processing.threads";
+    public static final String RECORD_PROCESSING_WITH_SERIAL_CONSUMER = "record.processing.with.serial.consumer";
+
+    // Debezium connector configuration
+    public static final String TABLE_INCLUDE_LIST = "table.include.list";
+    public static final String TABLE_EXCLUDE_LIST = "table.exclude.list";
+    public static final String SKIPPED_OPERATIONS = "skipped.operations";
+    public static final String SKIPPED_OPERATIONS_NONE = "none";
+    public static final String SIGNAL_ENABLED_CHANNELS = "signal.enabled.channels";
+
+    // Debezium signals
+    public static final String EXECUTE_SNAPSHOT_SIGNAL = "execute-snapshot";
+    public static final String SIGNAL_DATA_COLLECTIONS = "data-collections";
+    public static final String SIGNAL_SNAPSHOT_TYPE = "type";
+    public static final String INCREMENTAL_SNAPSHOT = "incremental";
+    public static final String IN_PROCESS_SIGNAL_CHANNEL = "in-process";
+
+    // Stage latency record
+    public static final String STAGE_LATENCY = "StageLatency";
+    public static final String STAGE_LATENCY_TABLE_NAME = "tableName";
+    public static final String STAGE_LATENCY_METHOD = "method";
+    public static final String STAGE_LATENCY_STAGE = "stage";
+    public static final String STAGE_LATENCY_COUNT = "count";
+    public static final String STAGE_LATENCY_MEAN = "mean";
+    public static final String STAGE_LATENCY_P50 = "p50";
+    public static final String STAGE_LATENCY_P90 = "p90";
+    public static final String STAGE_LATENCY_P99 = "p99";
+    public static final String STAGE_LATENCY_MAX = "max";
 
     // Service Map all key
     public static final String SERVICE_MAP_ALL_KEY = "*";
@@ -44,6 +83,51 @@ public final class Constants {
     private Constants() {
     }
 
+    public static class ListenerProperties {
+        // Properties with this prefix configure the listener and are not passed to the Debezium engine
+        public static final String PREFIX = "ballerina.";
+        public static final String EVENT_FORMAT = "ballerina.event.format";
+        public static final String DISPATCH_LANES = "ballerina.dispatch.lanes";
+        public static final String DISPATCH_PARTITION_BY = "ballerina.dispatch.partition.by";
+        public static final String DISPATCH_MAX_IN_FLIGHT = "ballerina.dispatch.max.in.flight";
+        public static final String DISPATCH_DECODE_WORKERS = "ballerina.dispatch.decode.workers";
+        public static final String DISPATCH_BUFFER_SIZE = "ballerina.dispatch.buffer.size";
+        public static final String OFFSET_COMMIT_POLICY = "ballerina.offset.commit.policy";
+        public static final String OFFSET_COMMIT_RECORD_COUNT = "ballerina.offset.commit.record.count";
+        public static final String ASYNC_ENGINE = "ballerina.engine.async";
+        public static final String START_POSITION_PARTITION = "ballerina.start.position.partition";
+        public static final String START_POSITION_OFFSET = "ballerina.start.position.offset";
+
+        private ListenerProperties() {
+        }
+    }
+
+    public static class OffsetCommitPolicies {
+        public static final String PERIODIC = "periodic";
+        public static final String EVERY_BATCH = "batch";
+        public static final String EVERY_RECORD_COUNT = "record-count";
+
+        private OffsetCommitPolicies() {
+        }
+    }
+
+    public static class PartitionStrategies {
+        public static final String BY_TABLE = "table";
+        public static final String BY_KEY = "key";
+
+        private PartitionStrategies() {
+        }
+    }
+
+    public static class EventFormats {
+        public static final String JSON = "json";
+        public static final String JSON_BYTES = "json-bytes";
+        public static final String CONNECT = "connect";
+
+        private EventFormats() {
+        }
+    }
+
     public static class ServiceMethodNames {
         public static final String ON_READ = "onRead";
         public static final String ON_CREATE = "onCreate";
@@ -51,6 +135,7 @@ public final class Constants {
         public static final String ON_DELETE = "onDelete";
         public static final String ON_TRUNCATE = "onTruncate";
         public static final String ON_ERROR = "onError";
+        public static final String ON_BATCH = "onBatch";
 
         private ServiceMethodNames() {
         }
@@ -73,10 +158,12 @@ public final class Constants {
         public static final String AFTER = "after";
         public static final String SOURCE = "source";
         public static final String OP = "op";
+        public static final String TABLE_NAME = "tableName";
         public static final String PAYLOAD = "payload";
         public static final String DB = "db";
         public static final String SCHEMA = "schema";
         public static final String TABLE = "table";
+        public static final String TS_MS = "ts_ms";
 
         private EventMembers() {
         }
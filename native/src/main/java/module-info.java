@@ -20,10 +20,18 @@ module io.ballerina.lib.cdc {
     requires io.ballerina.runtime;
     requires io.ballerina.lib.data;
     requires debezium.api;
+    requires debezium.core;
+    requires connect.api;
+    requires connect.json;
+    requires connect.runtime;
+    requires kafka.clients;
     requires com.google.gson;
     requires java.logging;
+    requires java.sql;
 
     exports io.ballerina.lib.cdc;
+    exports io.ballerina.lib.cdc.decoder;
     exports io.ballerina.lib.cdc.models;
+    exports io.ballerina.lib.cdc.storage;
     exports io.ballerina.lib.cdc.utils;
 }